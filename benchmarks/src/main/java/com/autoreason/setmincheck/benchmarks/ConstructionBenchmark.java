@@ -0,0 +1,35 @@
+package com.autoreason.setmincheck.benchmarks;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark for the construction of the indexes of all collections of a test
+ * file
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConstructionBenchmark {
+
+	@Benchmark
+	public void construct(IndexState state, Blackhole blackhole) {
+		for (Collection<Set<Integer>> col : state.collections) {
+			blackhole.consume(state.indexType.createIndex(col, state.setRepLength));
+		}
+	}
+
+}
@@ -0,0 +1,134 @@
+package com.autoreason.setmincheck.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.autoreason.setmincheck.DataProvider;
+import com.autoreason.setmincheck.expindex.ExpIndex;
+import com.autoreason.setmincheck.expindex.ExpIndexType;
+import com.autoreason.setmincheck.expindex.ExpSimple;
+
+/**
+ * The collections of a test file together with an {@link ExpIndex} and the
+ * test sets used for the benchmarks
+ *
+ * <p>
+ * The queries are taken from the largest collection of the file: minimal test
+ * sets are removed from the collection before it is indexed, and non-minimal
+ * test sets are supersets of sets that remain in the collection. Since not all
+ * collections are minimal, every test set is verified with {@link ExpSimple},
+ * and removed sets that still contain a remaining set are put back into the
+ * collection.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class IndexState {
+
+	/**
+	 * the maximum number of minimal and non-minimal test sets
+	 */
+	final static int MAX_QUERIES = 16;
+
+	/**
+	 * the seed for choosing the test sets
+	 */
+	final static long QUERY_SEED = 42;
+
+	/**
+	 * the name of the test file in the resource folder {@code files}
+	 */
+	@Param({ "academic-1x1001x999.txt", "fiction-1x1000x1000.txt", "jsSets-Galen_DD-45x16x32.txt",
+			"jsSets-Galen_DD-75x20x50.txt", "jsSets-Galen_DD-combined-1x2141x48.txt",
+			"jsSets-Galen_DD-notMin-27x100x50.txt", "jsSets-go-2938x50x10.txt", "jsSets-go-913x25x10.txt" })
+	public String fileName;
+
+	/**
+	 * the type of the benchmarked index (all types if not specified)
+	 */
+	@Param
+	public ExpIndexType indexType;
+
+	// collections of the test file (without minimal test sets)
+	ArrayList<Collection<Set<Integer>>> collections;
+	// length of set representations based on bit vectors
+	int setRepLength;
+	// index of the collection containing the test sets
+	ExpIndex index;
+	// test sets for which the index contains no subset
+	ArrayList<Set<Integer>> minimalQueries;
+	// test sets for which the index contains a subset
+	ArrayList<Set<Integer>> nonMinimalQueries;
+	// position of the next test set
+	private int nextQuery;
+
+	@Setup
+	public void setup() {
+		// test sets are chosen below
+		DataProvider dataProvider = new DataProvider("/files/" + fileName, new HashSet<Integer>());
+		collections = dataProvider.getFileCollections();
+		setRepLength = dataProvider.getMaxSetSize();
+
+		// find largest collection
+		Collection<Set<Integer>> col = collections.get(0);
+		for (Collection<Set<Integer>> c : collections) {
+			if (c.size() > col.size()) {
+				col = c;
+			}
+		}
+		ArrayList<Set<Integer>> sets = new ArrayList<Set<Integer>>(col);
+		Collections.shuffle(sets, new Random(QUERY_SEED));
+		int queryNr = Math.max(1, Math.min(MAX_QUERIES, sets.size() / 2));
+
+		minimalQueries = new ArrayList<Set<Integer>>();
+		for (Set<Integer> set : sets) {
+			if (minimalQueries.size() == queryNr) {
+				break;
+			}
+			// remove set from collection and keep it as minimal test set, unless it
+			// contains a remaining set
+			col.remove(set);
+			if (ExpSimple.simpleMinimalityCheck(col, set)) {
+				minimalQueries.add(set);
+			} else {
+				col.add(set);
+			}
+		}
+		nonMinimalQueries = new ArrayList<Set<Integer>>();
+		for (int i = sets.size() - 1; i >= 0 && nonMinimalQueries.size() < queryNr; i--) {
+			// extend remaining set of collection
+			if (!minimalQueries.isEmpty() && col.contains(sets.get(i))) {
+				Set<Integer> nonMinimal = new HashSet<Integer>(sets.get(i));
+				nonMinimal.addAll(minimalQueries.get(nonMinimalQueries.size() % minimalQueries.size()));
+				if (!ExpSimple.simpleMinimalityCheck(col, nonMinimal)) {
+					nonMinimalQueries.add(nonMinimal);
+				}
+			}
+		}
+		if (minimalQueries.isEmpty() || nonMinimalQueries.isEmpty()) {
+			throw new IllegalStateException("No minimal and non-minimal test sets in " + fileName);
+		}
+
+		index = indexType.createIndex(col, setRepLength);
+	}
+
+	/**
+	 * Get the next of the test sets, where all test sets are used in turn
+	 * 
+	 * @param queries An {@link ArrayList} of test sets
+	 * @return A {@link Set} of {@link Integer} values
+	 */
+	Set<Integer> next(ArrayList<Set<Integer>> queries) {
+		nextQuery = (nextQuery + 1) % queries.size();
+		return queries.get(nextQuery);
+	}
+
+}
@@ -0,0 +1,35 @@
+package com.autoreason.setmincheck.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the minimality check of test sets that are minimal or
+ * non-minimal w.r.t. the indexed collection
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class QueryBenchmark {
+
+	@Benchmark
+	public boolean minimalQuery(IndexState state) {
+		return state.index.checkMinimal(state.next(state.minimalQueries));
+	}
+
+	@Benchmark
+	public boolean nonMinimalQuery(IndexState state) {
+		return state.index.checkMinimal(state.next(state.nonMinimalQueries));
+	}
+
+}
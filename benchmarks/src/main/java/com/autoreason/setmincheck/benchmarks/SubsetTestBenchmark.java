@@ -0,0 +1,170 @@
+package com.autoreason.setmincheck.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.autoreason.setmincheck.AbstractSetRepMatchProvider;
+import com.autoreason.setmincheck.DataProvider;
+import com.autoreason.setmincheck.SetMinimalityChecker;
+import com.autoreason.setmincheck.WideBitVectorIndex;
+import com.autoreason.setmincheck.setobjects.BitVectorSet;
+import com.autoreason.setmincheck.setobjects.ExpBitVectorSet;
+
+/**
+ * Benchmarks for subset tests of wide bit vectors comparing the word-by-word
+ * test of {@link WideBitVectorIndex} with a blocked comparison without branches
+ * inside a block and with the matcher of {@link BitVectorSet}, where either all
+ * candidates are subsets of the test vector so that all words are compared, or
+ * each candidate contains an element outside the test vector in a word at a
+ * random position
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SubsetTestBenchmark {
+
+	/**
+	 * the number of candidate vectors
+	 */
+	final static int CANDIDATES = 64;
+
+	/**
+	 * the number of words of each vector, where 157 and 782 words correspond to
+	 * the sets of the 10000- and 50000-element test files
+	 */
+	@Param({ "16", "157", "782" })
+	public int words;
+
+	/**
+	 * the position of the first word of a candidate that is not a subset of the
+	 * corresponding test word, which is either {@code none} (all candidates are
+	 * subsets) or {@code random}
+	 */
+	@Param({ "none", "random" })
+	public String failure;
+
+	// words of all candidate vectors
+	long[] candidates;
+	// test vector
+	long[] test;
+	// candidates as single-element collections of BitVectorSet objects
+	List<NavigableSet<BitVectorSet>> candidateSets;
+	// test vector as set of bit positions
+	Set<Integer> testSet;
+	// matcher of BitVectorSet objects for the test set
+	AbstractSetRepMatchProvider<BitVectorSet, long[]> matchProvider;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		test = new long[words];
+		candidates = new long[CANDIDATES * words];
+		for (int i = 0; i < words; i++) {
+			test[i] = random.nextLong();
+		}
+		for (int c = 0; c < CANDIDATES; c++) {
+			for (int i = 0; i < words; i++) {
+				candidates[c * words + i] = test[i] & random.nextLong();
+			}
+			if (failure.equals("random")) {
+				// add a bit that is missing in the test word
+				int i = random.nextInt(words);
+				while (test[i] == -1L) {
+					i = random.nextInt(words);
+				}
+				candidates[c * words + i] |= Long.lowestOneBit(~test[i]);
+			}
+		}
+
+		// represent each candidate by a BitVectorSet as in the experiment
+		ExpBitVectorSet expSetRep = new ExpBitVectorSet();
+		testSet = toSet(test, 0);
+		int maxSetSize = testSet.size();
+		List<Set<Integer>> sets = new ArrayList<Set<Integer>>();
+		for (int c = 0; c < CANDIDATES; c++) {
+			sets.add(toSet(candidates, c * words));
+			maxSetSize = Math.max(maxSetSize, sets.get(c).size());
+		}
+		expSetRep.setSetRepLength(maxSetSize);
+		candidateSets = new ArrayList<NavigableSet<BitVectorSet>>();
+		for (Set<Integer> set : sets) {
+			candidateSets.add(DataProvider.convertCollection(expSetRep, Collections.singleton(set)));
+		}
+		matchProvider = expSetRep.getMatchProvider(testSet);
+	}
+
+	/**
+	 * Determine the positions of the set bits of a vector
+	 *
+	 * @param vectors A {@code long[]} containing the vector
+	 * @param from    An {@code int} defining the position of the first word
+	 * @return A {@link Set} of the bit positions
+	 */
+	private Set<Integer> toSet(long[] vectors, int from) {
+		Set<Integer> set = new HashSet<Integer>();
+		for (int i = 0; i < words; i++) {
+			long word = vectors[from + i];
+			while (word != 0) {
+				set.add(i * Long.SIZE + Long.numberOfTrailingZeros(word));
+				word &= word - 1;
+			}
+		}
+		return set;
+	}
+
+	@Benchmark
+	public int scalar() {
+		int subsets = 0;
+		for (int c = 0; c < CANDIDATES; c++) {
+			if (WideBitVectorIndex.isSubset(candidates, c * words, test, 0, words)) {
+				subsets++;
+			}
+		}
+		return subsets;
+	}
+
+	@Benchmark
+	public int blocked() {
+		int subsets = 0;
+		for (int c = 0; c < CANDIDATES; c++) {
+			if (WideBitVectorIndex.isSubsetBlocked(candidates, c * words, test, 0, words)) {
+				subsets++;
+			}
+		}
+		return subsets;
+	}
+
+	@Benchmark
+	public int bitVectorSet() {
+		int subsets = 0;
+		for (int c = 0; c < CANDIDATES; c++) {
+			if (!SetMinimalityChecker.isMinimal(candidateSets.get(c), testSet, matchProvider)) {
+				subsets++;
+			}
+		}
+		return subsets;
+	}
+
+}
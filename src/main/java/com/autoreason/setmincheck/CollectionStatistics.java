@@ -0,0 +1,131 @@
+package com.autoreason.setmincheck;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Statistics of a collection of sets that are cheap to compute and describe
+ * which index structure suits the collection
+ *
+ */
+public class CollectionStatistics {
+
+	/**
+	 * the number of sets
+	 */
+	final int setCount;
+
+	/**
+	 * the total number of elements of all sets
+	 */
+	final long elementCount;
+
+	/**
+	 * the maximum set size
+	 */
+	final int maxSetSize;
+
+	/**
+	 * the number of distinct elements
+	 */
+	final int universeSize;
+
+	/**
+	 * the number of nodes of a trie containing the sets in ascending order of
+	 * their elements, as built by a {@link UBTree}
+	 */
+	final long prefixNodes;
+
+	/**
+	 * Compute the statistics of a collection
+	 *
+	 * @param col A {@link Collection} of {@link Set} elements containing
+	 *            {@link Integer} values
+	 */
+	public CollectionStatistics(Collection<Set<Integer>> col) {
+		int[][] sets = new int[col.size()][];
+		int s = 0;
+		long total = 0;
+		int max = 0;
+		for (Set<Integer> set : col) {
+			sets[s++] = IntUBTree.toSortedArray(set);
+			total += set.size();
+			max = Math.max(max, set.size());
+		}
+		this.setCount = sets.length;
+		this.elementCount = total;
+		this.maxSetSize = max;
+
+		// count distinct elements
+		this.universeSize = IntUBTree.sortedUniverse(Arrays.asList(sets)).length;
+
+		// each set adds the nodes after its common prefix with its lexicographic
+		// predecessor
+		Arrays.sort(sets, Arrays::compare);
+		long nodes = 0;
+		for (int i = 0; i < sets.length; i++) {
+			int common = 0;
+			if (i > 0) {
+				int mismatch = Arrays.mismatch(sets[i - 1], sets[i]);
+				common = mismatch < 0 ? sets[i].length : mismatch;
+			}
+			nodes += sets[i].length - common;
+		}
+		this.prefixNodes = nodes;
+	}
+
+	/**
+	 * @return An {@code int} defining the number of sets
+	 */
+	public int getSetCount() {
+		return setCount;
+	}
+
+	/**
+	 * @return A {@code double} defining the mean set size
+	 */
+	public double getMeanSetSize() {
+		return setCount == 0 ? 0 : (double) elementCount / setCount;
+	}
+
+	/**
+	 * @return An {@code int} defining the maximum set size
+	 */
+	public int getMaxSetSize() {
+		return maxSetSize;
+	}
+
+	/**
+	 * @return An {@code int} defining the number of distinct elements
+	 */
+	public int getUniverseSize() {
+		return universeSize;
+	}
+
+	/**
+	 * Get the share of set elements that are represented by a trie node shared
+	 * with a lexicographically smaller set
+	 *
+	 * @return A {@code double} between 0 (no common prefixes) and 1
+	 */
+	public double getPrefixSharing() {
+		return elementCount == 0 ? 0 : 1 - (double) prefixNodes / elementCount;
+	}
+
+	/**
+	 * Get the mean number of sets containing an element
+	 *
+	 * @return A {@code double}
+	 */
+	public double getMeanPostingLength() {
+		return universeSize == 0 ? 0 : (double) elementCount / universeSize;
+	}
+
+	@Override
+	public String toString() {
+		return "sets=" + setCount + ", mean-size=" + getMeanSetSize() + ", max-size=" + maxSetSize + ", universe="
+				+ universeSize + ", prefix-sharing=" + getPrefixSharing();
+	}
+
+}
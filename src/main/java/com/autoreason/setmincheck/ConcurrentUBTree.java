@@ -0,0 +1,237 @@
+package com.autoreason.setmincheck;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * A thread-safe variant of the {@link UBTree}, where any number of threads can
+ * check minimality without locking while other threads insert sets
+ *
+ * <p>
+ * Readers never block: the children of a node are kept in arrays that are
+ * copied on write and published through volatile fields, and new paths are
+ * only linked into the tree after they have been completely built. Writers are
+ * synchronized by striped locks, where the stripe is determined by the
+ * smallest element of a set, i.e. by the root subtree that is modified.
+ * Additionally, adding a new root node is synchronized on the virtual root.
+ * </p>
+ *
+ * <p>
+ * A minimality check that runs concurrently with the insertion of a subset may
+ * or may not take this subset into account, but every set whose insertion has
+ * finished before the check starts is considered.
+ * </p>
+ */
+public class ConcurrentUBTree<C extends Comparable<C>> {
+
+	/**
+	 * default number of locks for writers
+	 */
+	final static int DEFAULT_STRIPES = 64;
+
+	// virtual node whose children are the root nodes of the included set trees
+	final ConcurrentUBTreeNode<C> root;
+
+	// locks for writers of the different root subtrees
+	private final Object[] stripes;
+
+	// flag whether the empty set is included, which is a subset of every set
+	volatile boolean containsEmptySet = false;
+
+	public ConcurrentUBTree() {
+		this(DEFAULT_STRIPES);
+	}
+
+	/**
+	 * Construct an empty ConcurrentUBTree
+	 *
+	 * @param stripeNr A positive {@code int} defining the number of locks used to
+	 *                 synchronize writers
+	 */
+	public ConcurrentUBTree(int stripeNr) {
+		root = new ConcurrentUBTreeNode<C>(null, Integer.MAX_VALUE);
+		stripes = new Object[stripeNr];
+		for (int i = 0; i < stripeNr; i++) {
+			stripes[i] = new Object();
+		}
+	}
+
+	/**
+	 * Construct a ConcurrentUBTree that contains the sets of the given collection
+	 *
+	 * @param col A {@link Collection} of {@link Set} elements
+	 */
+	public ConcurrentUBTree(Collection<Set<C>> col) {
+		this(DEFAULT_STRIPES);
+		for (Set<C> set : col) {
+			insert(set);
+		}
+	}
+
+	/**
+	 * Insert a {@link Set} into the ConcurrentUBTree
+	 *
+	 * @param set A {@link Set}
+	 */
+	public void insert(Set<C> set) {
+		if (set.isEmpty()) {
+			// empty set is not represented by a node
+			containsEmptySet = true;
+			return;
+		}
+		ArrayList<C> setList = new ArrayList<>(set);
+		// sort set
+		Collections.sort(setList);
+		C first = setList.get(0);
+		synchronized (stripes[Math.floorMod(first.hashCode(), stripes.length)]) {
+			insert(setList);
+		}
+	}
+
+	/**
+	 * Insert a sorted set, while holding the lock of the stripe of its first
+	 * element
+	 *
+	 * @param setList A sorted {@link ArrayList} representing a non-empty set
+	 */
+	private void insert(ArrayList<C> setList) {
+		int setSize = setList.size();
+		// follow existing path of set
+		ConcurrentUBTreeNode<C> curNode = root;
+		int index = 0;
+		int pos = -1;
+		while (index < setSize) {
+			pos = ConcurrentUBTreeNode.indexOf(curNode.children, setList.get(index));
+			if (pos < 0) {
+				break;
+			}
+			curNode = curNode.children[pos];
+			index++;
+		}
+
+		if (index == setSize) {
+			// path exists already: only update distances and marker
+			updateDistances(setList, setSize);
+			curNode.endOfPath = true;
+			return;
+		}
+
+		// build missing part of path before it becomes visible
+		ConcurrentUBTreeNode<C> first = new ConcurrentUBTreeNode<C>(setList.get(index), setSize - index - 1);
+		ConcurrentUBTreeNode<C> last = first;
+		for (int i = index + 1; i < setSize; i++) {
+			ConcurrentUBTreeNode<C> node = new ConcurrentUBTreeNode<C>(setList.get(i), setSize - i - 1);
+			last.children = newArray(node);
+			last = node;
+		}
+		// update distances of existing nodes of path
+		updateDistances(setList, index);
+		// link new nodes to tree
+		if (curNode == root) {
+			synchronized (root) {
+				// root may have changed due to writers of other stripes
+				curNode.addChild(-ConcurrentUBTreeNode.indexOf(root.children, first.element) - 1, first);
+			}
+		} else {
+			curNode.addChild(-pos - 1, first);
+		}
+	}
+
+	/**
+	 * Decrease the distances to the next end-of-path node of the existing nodes on
+	 * the path of a set, where the set ends
+	 *
+	 * @param setList A sorted {@link ArrayList} representing a set
+	 * @param length  An {@code int} defining the number of existing nodes on the
+	 *                path of the set
+	 */
+	private void updateDistances(ArrayList<C> setList, int length) {
+		ConcurrentUBTreeNode<C> node = root;
+		for (int i = 0; i < length; i++) {
+			node = node.children[ConcurrentUBTreeNode.indexOf(node.children, setList.get(i))];
+			int remain = setList.size() - i - 1;
+			if (node.distanceToNextEOP > remain) {
+				node.distanceToNextEOP = remain;
+			}
+		}
+	}
+
+	/**
+	 * Create an array that contains a single node
+	 *
+	 * @param node A {@link ConcurrentUBTreeNode}
+	 * @return An array with {@code node} as element
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private ConcurrentUBTreeNode<C>[] newArray(ConcurrentUBTreeNode<C> node) {
+		ConcurrentUBTreeNode<C>[] array = new ConcurrentUBTreeNode[1];
+		array[0] = node;
+		return array;
+	}
+
+	/**
+	 * Check if any set below the given node is a subset of the given set
+	 *
+	 * @param node       A {@link ConcurrentUBTreeNode} whose children are
+	 *                   considered
+	 * @param set        A sorted {@link ArrayList}
+	 * @param startIndex An {@code int} stating the index starting from which the
+	 *                   set elements are considered
+	 * @return {@code true} if a subset of {@code set} is found below {@code node},
+	 *         otherwise {@code false}
+	 */
+	private boolean containsSubsetOf(ConcurrentUBTreeNode<C> node, ArrayList<C> set, int startIndex) {
+		// read children only once, since they may be replaced concurrently
+		ConcurrentUBTreeNode<C>[] children = node.children;
+
+		int setSize = set.size();
+		int remainSetSize = setSize - startIndex;
+		// find all children with a related set element
+		for (int index = startIndex; index < setSize; index++) {
+			remainSetSize--;
+
+			// look for child with set element
+			int i = ConcurrentUBTreeNode.indexOf(children, set.get(index));
+			if (i > -1) {
+				ConcurrentUBTreeNode<C> child = children[i];
+				// only consider child if distance to next end-of-path marker is not greater
+				// than number of remaining elements
+				if (child.distanceToNextEOP <= remainSetSize) {
+					if (child.endOfPath) {
+						// subset found
+						return true;
+					}
+					// consider children of child with remaining set elements
+					if (containsSubsetOf(child, set, index + 1)) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Check if a given given {@link Set} is minimal w.r.t. the sets represented by
+	 * this ConcurrentUBTree
+	 *
+	 * @param testSet A {@link Set} with elements of {@link Comparable} type
+	 *                {@code C}
+	 * @return {@code true} if the ConcurrentUBTree does not contain any subset of
+	 *         {@code testSet}, otherwise {@code false}
+	 */
+	public boolean checkMinimal(Set<C> testSet) {
+		if (containsEmptySet) {
+			// empty set is a subset of every set
+			return false;
+		}
+		// sort set
+		ArrayList<C> set = new ArrayList<C>(testSet);
+		Collections.sort(set);
+		// set is only minimal w.r.t. collection if no subsets could be found
+		return !containsSubsetOf(root, set, 0);
+	}
+
+}
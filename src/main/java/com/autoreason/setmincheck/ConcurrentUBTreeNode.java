@@ -0,0 +1,90 @@
+package com.autoreason.setmincheck;
+
+/**
+ * A node for a {@link ConcurrentUBTree}, whose children are stored in a sorted
+ * array that is replaced (instead of modified) when a child is added
+ *
+ */
+public class ConcurrentUBTreeNode<C extends Comparable<C>> {
+
+	// shared array for nodes without children (i.e. leaves)
+	@SuppressWarnings("rawtypes")
+	private final static ConcurrentUBTreeNode[] NO_CHILDREN = new ConcurrentUBTreeNode[0];
+
+	/**
+	 * the element represented by the node
+	 */
+	final C element;
+
+	/**
+	 * the children of the node, sorted by their elements
+	 */
+	volatile ConcurrentUBTreeNode<C>[] children;
+
+	/**
+	 * the End-of-Path marker, where a path refers to a sorted arrangement of a set
+	 */
+	volatile boolean endOfPath;
+
+	/**
+	 * distance to next closest end-Of-Path marked node
+	 */
+	volatile int distanceToNextEOP;
+
+	@SuppressWarnings("unchecked")
+	public ConcurrentUBTreeNode(C e, int dist) {
+		this.element = e;
+		this.children = NO_CHILDREN;
+		this.endOfPath = dist == 0;
+		this.distanceToNextEOP = dist;
+	}
+
+	/**
+	 * Look for the child with the given element by means of a binary search
+	 *
+	 * @param nodes A sorted array of {@link ConcurrentUBTreeNode} objects
+	 * @param elem  An element of type {@code C}
+	 * @return The index of the node for {@code elem}, if present, otherwise
+	 *         {@code (-(insertion point) - 1)}
+	 */
+	static <C extends Comparable<C>> int indexOf(ConcurrentUBTreeNode<C>[] nodes, C elem) {
+		int low = 0;
+		int high = nodes.length - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int cmp = nodes[mid].element.compareTo(elem);
+			if (cmp < 0) {
+				low = mid + 1;
+			} else if (cmp > 0) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(low + 1);
+	}
+
+	/**
+	 * Add a child by replacing the array of children with a copy that contains
+	 * the child at the given position
+	 *
+	 * <p>
+	 * Note: Writers need to be synchronized by the caller
+	 * </p>
+	 *
+	 * @param pos   An {@code int} defining the insertion point as returned by
+	 *              {@link #indexOf}
+	 * @param child The new {@link ConcurrentUBTreeNode}
+	 */
+	void addChild(int pos, ConcurrentUBTreeNode<C> child) {
+		ConcurrentUBTreeNode<C>[] oldChildren = children;
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		ConcurrentUBTreeNode<C>[] newChildren = new ConcurrentUBTreeNode[oldChildren.length + 1];
+		System.arraycopy(oldChildren, 0, newChildren, 0, pos);
+		newChildren[pos] = child;
+		System.arraycopy(oldChildren, pos, newChildren, pos + 1, oldChildren.length - pos);
+		// publish completely initialized array
+		children = newChildren;
+	}
+
+}
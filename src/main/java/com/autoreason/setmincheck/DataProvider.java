@@ -4,6 +4,7 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -22,6 +23,17 @@ public class DataProvider {
 
 	final static String RESOURCE_FOLDER = "src\\main\\resources\\";
 
+	/**
+	 * the seed for drawing test sets, which can be set with the system property
+	 * {@code experiment.seed}
+	 */
+	final static long SEED = Long.getLong("experiment.seed", 123456789L);
+
+	/**
+	 * A {@link Random} object used for drawing test sets and workloads
+	 */
+	Random random = new Random(SEED);
+
 	/**
 	 * A list of set collections read from a file
 	 * 
@@ -29,11 +41,23 @@ public class DataProvider {
 	 */
 	ArrayList<Collection<Set<Integer>>> fileCollections;
 
+	/**
+	 * The sets of {@link #fileCollections} in a {@link SetArena}, or {@code null}
+	 * if they have been read with {@link FileSetConverter}
+	 */
+	SetArena arena;
+
 	/**
 	 * A {@link Set} used for performing of set minimality check
 	 */
 	Set<Integer> testSet;
 
+	/**
+	 * The index of the collection in {@link #fileCollections} from which the
+	 * {@link #testSet} has been taken
+	 */
+	int testSetCollection;
+
 	/**
 	 * Construct a {@link DataProvider} object based on the data retrieved from the
 	 * given file
@@ -45,8 +69,51 @@ public class DataProvider {
 		// read collections from file
 		this.fileCollections = FileSetConverter.readCollectionsFromFile(file);
 		// initialize test set with random set of read collections
-		Random r = new Random();
-		this.testSet = generateTestSet(fileCollections.get(r.nextInt(fileCollections.size())));
+		getNewTestSet();
+	}
+
+	/**
+	 * Construct a {@link DataProvider} object based on the data retrieved from the
+	 * given file, where test sets are drawn with the given seed
+	 * 
+	 * @param file A {@link String} that defines the path to a text file containing
+	 *             sets generated with {@link SetFileConverter}
+	 * @param seed A {@code long} value used for the generation of random values
+	 */
+	public DataProvider(String file, long seed) {
+		this.random = new Random(seed);
+		// read collections from file
+		this.fileCollections = FileSetConverter.readCollectionsFromFile(file);
+		// initialize test set with random set of read collections
+		getNewTestSet();
+	}
+
+	/**
+	 * Construct a {@link DataProvider} object based on the data retrieved from the
+	 * given binary file
+	 * 
+	 * @param file A {@link Path} to a file of set collections in the binary format
+	 *             of {@link SetCollectionFile}
+	 * @throws IOException if the file cannot be read
+	 */
+	public DataProvider(Path file) throws IOException {
+		// read collections from memory-mapped file
+		this(SetCollectionFile.read(file));
+	}
+
+	/**
+	 * Construct a {@link DataProvider} object based on the sets of a
+	 * {@link SetArena}, e.g. read from a text file with
+	 * {@link SetArena#readResource(String)} instead of {@link FileSetConverter}
+	 * 
+	 * @param arena A {@link SetArena}, which is kept for building indexes without
+	 *              boxed sets
+	 */
+	public DataProvider(SetArena arena) {
+		this.arena = arena;
+		this.fileCollections = arena.toCollections();
+		// initialize test set with random set of read collections
+		getNewTestSet();
 	}
 
 	/**
@@ -126,12 +193,8 @@ public class DataProvider {
 
 			// convert each collection
 			for (Collection<Set<Integer>> collection : fileCollections) {
-				TreeSet<S> ts = new TreeSet<S>(new KeepSameSetRepComparator<S>()); // keep duplicates, since two equal
-																					// set representations may by the
-																					// result of two different sets
-				ts.addAll(e.convertCollection(collection));
 				// add sorted converted collection to list
-				convertList.add(ts);
+				convertList.add(convertCollection(e, collection));
 			}
 			setRepConvertList.add(convertList);
 		}
@@ -140,6 +203,29 @@ public class DataProvider {
 
 	}
 
+	/**
+	 * Convert the {@link Set} elements of a {@link Collection} to a sorted
+	 * collection of representative objects of type {@code S} determined by the
+	 * provided {@link ExpSetRepresent} implementation
+	 * 
+	 * @param <S>        An implementation of both {@link SetRepresent} and
+	 *                   {@link Comparable}
+	 * @param expSetRep  An {@link ExpSetRepresent} implementation for type
+	 *                   {@code S}
+	 * @param collection A {@link Collection} of {@link Set} elements containing
+	 *                   {@link Integer} values
+	 * @return A {@link NavigableSet} containing objects of type {@code S}
+	 *         representing the sets from {@code collection}
+	 */
+	public static <S extends SetRepresent<R> & Comparable<S>, R> NavigableSet<S> convertCollection(
+			ExpSetRepresent<S, R> expSetRep, Collection<Set<Integer>> collection) {
+		TreeSet<S> ts = new TreeSet<S>(new KeepSameSetRepComparator<S>()); // keep duplicates, since two equal
+																			// set representations may by the
+																			// result of two different sets
+		ts.addAll(expSetRep.convertCollection(collection));
+		return ts;
+	}
+
 	/**
 	 * Determine a {@link Set} randomly taken from the given {@link Collection}
 	 * 
@@ -148,7 +234,7 @@ public class DataProvider {
 	 */
 	private Set<Integer> generateTestSet(Collection<Set<Integer>> col) {
 		// take random set from collection
-		int index = new Random().nextInt(col.size());
+		int index = random.nextInt(col.size());
 		Iterator<Set<Integer>> iter = col.iterator();
 		for (int i = 0; i < index; i++) {
 			iter.next();
@@ -165,8 +251,77 @@ public class DataProvider {
 	 * {@link Set} elements from {@code fileCollections}
 	 */
 	public void getNewTestSet() {
-		Random r = new Random();
-		this.testSet = generateTestSet(fileCollections.get(r.nextInt(fileCollections.size())));
+		this.testSetCollection = random.nextInt(fileCollections.size());
+		this.testSet = generateTestSet(fileCollections.get(testSetCollection));
+	}
+
+	/**
+	 * Check if the collection from which the {@link #testSet} has been taken no
+	 * longer contains a duplicate of it, so that indexes of the collection have
+	 * to remove the set
+	 * 
+	 * @return {@code true} if the collection at {@link #testSetCollection} does
+	 *         not contain a set equal to {@link #testSet}, otherwise {@code false}
+	 */
+	public boolean isTestSetRemoved() {
+		return !fileCollections.get(testSetCollection).contains(testSet);
+	}
+
+	/**
+	 * Generate a reproducible workload of queries for the collections, whose seed
+	 * is drawn from the random values of this {@link DataProvider}
+	 * 
+	 * @param size        An {@code int} defining the number of queries
+	 * @param proportions A {@code double[]} with a non-negative weight for each
+	 *                    element of {@link QueryKind#values()}
+	 * @return A {@link QueryWorkload}
+	 * @see QueryWorkload#generate(ArrayList, int, double[], long)
+	 */
+	public QueryWorkload generateWorkload(int size, double[] proportions) {
+		return QueryWorkload.generate(fileCollections, size, proportions, random.nextLong());
+	}
+
+	/**
+	 * Get the sets of the file as {@link SetArena}, which also contains all test
+	 * sets that have been removed from {@link #getFileCollections()}, so that they
+	 * have to be removed from indexes built from the arena as well
+	 * 
+	 * @return A {@link SetArena}, or {@code null} if the file has been read with
+	 *         {@link FileSetConverter}
+	 * @see IntUBTree#IntUBTree(SetArena, int)
+	 */
+	public SetArena getArena() {
+		return arena;
+	}
+
+	/**
+	 * Get the set collections read from the file
+	 * 
+	 * @return An {@link ArrayList} of {@link Collection} elements containing
+	 *         {@link Set} objects
+	 */
+	public ArrayList<Collection<Set<Integer>>> getFileCollections() {
+		return fileCollections;
+	}
+
+	/**
+	 * Get the current test set
+	 * 
+	 * @return A {@link Set} of {@link Integer} values
+	 */
+	public Set<Integer> getTestSet() {
+		return testSet;
+	}
+
+	/**
+	 * Get the index of the collection from which the current test set has been
+	 * taken
+	 * 
+	 * @return An {@code int} referring to an element of
+	 *         {@link #getFileCollections()}
+	 */
+	public int getTestSetCollection() {
+		return testSetCollection;
 	}
 
 	/**
@@ -0,0 +1,154 @@
+package com.autoreason.setmincheck;
+
+import com.autoreason.setmincheck.expindex.ExpIndexType;
+
+/**
+ * The modes of {@link RunExperiment}, which are selected by the first program
+ * argument
+ *
+ */
+enum ExperimentMode {
+
+	// compare the minimality check of all index types (used without arguments)
+	COMPARE("compare") {
+		@Override
+		void run(String[] args) {
+			RunExperiment.compareIndexes();
+		}
+	},
+	// compare startup times instead of minimality checking
+	SNAPSHOT("snapshot") {
+		@Override
+		void run(String[] args) {
+			RunExperiment.measureStartupTimes();
+		}
+	},
+	// compare construction times of UBTree
+	CONSTRUCTION("construction") {
+		@Override
+		void run(String[] args) {
+			RunExperiment.measureConstructionTimes(RunExperiment.MEASUREMENT_REPETITIONS);
+		}
+	},
+	// measure throughput of ConcurrentUBTree
+	CONCURRENT("concurrent") {
+		@Override
+		void run(String[] args) {
+			RunExperiment.measureConcurrentThroughput(RunExperiment.CONCURRENT_DURATION_MILLIS);
+		}
+	},
+	// measure speedup of parallel minimality check
+	PARALLEL("parallel") {
+		@Override
+		void run(String[] args) {
+			RunExperiment.measureParallelSpeedup(RunExperiment.MEASUREMENT_REPETITIONS);
+		}
+	},
+	// compare single and batched minimality checks
+	BATCH("batch") {
+		@Override
+		void run(String[] args) {
+			RunExperiment.measureBatchTimes(RunExperiment.MEASUREMENT_REPETITIONS);
+		}
+	},
+	// compare loading of test files
+	PARSE("parse") {
+		@Override
+		void run(String[] args) {
+			RunExperiment.measureParsing(RunExperiment.MEASUREMENT_REPETITIONS);
+		}
+	},
+	// convert test files into binary format and compare loading times
+	BINARY("binary") {
+		@Override
+		void run(String[] args) {
+			RunExperiment.measureBinaryLoading(RunExperiment.MEASUREMENT_REPETITIONS);
+		}
+	},
+	// measure query latencies for a workload of different query kinds
+	WORKLOAD("workload") {
+		@Override
+		void run(String[] args) {
+			RunExperiment.measureWorkload(RunExperiment.WORKLOAD_SIZE,
+					QueryWorkload.parseProportions(RunExperiment.WORKLOAD_PROPORTIONS),
+					RunExperiment.MEASUREMENT_REPETITIONS);
+		}
+	},
+	// perform experiment for a single test file and index type (used by
+	// ParallelExperimentRunner)
+	JOB("job", 2) {
+		@Override
+		void run(String[] args) {
+			RunExperiment.performJob(args[1], ExpIndexType.valueOf(args[2]));
+		}
+	},
+	// collect UBTree metrics for a workload of each test file
+	METRICS("metrics") {
+		@Override
+		void run(String[] args) {
+			RunExperiment.collectMetrics(RunExperiment.WORKLOAD_SIZE,
+					QueryWorkload.parseProportions(RunExperiment.WORKLOAD_PROPORTIONS));
+		}
+	},
+	// fit the cost model of AdaptiveMinimalityChecker
+	CALIBRATE("calibrate") {
+		@Override
+		void run(String[] args) {
+			RunExperiment.calibrate(RunExperiment.CALIBRATION_SAMPLES, RunExperiment.CALIBRATION_QUERIES,
+					QueryWorkload.parseProportions(RunExperiment.WORKLOAD_PROPORTIONS));
+		}
+	},
+	// count nodes pruned by UBTree bounds
+	PRUNING("pruning") {
+		@Override
+		void run(String[] args) {
+			RunExperiment.countPrunedNodes(RunExperiment.PRUNING_TEST_FILES);
+		}
+	};
+
+	/**
+	 * the first program argument selecting the mode
+	 */
+	private final String name;
+
+	/**
+	 * the number of further program arguments required by the mode
+	 */
+	private final int parameterCount;
+
+	private ExperimentMode(String name) {
+		this(name, 0);
+	}
+
+	private ExperimentMode(String name, int parameterCount) {
+		this.name = name;
+		this.parameterCount = parameterCount;
+	}
+
+	/**
+	 * Determine the mode selected by the program arguments
+	 * 
+	 * @param args A {@link String} array with the program arguments
+	 * @return The {@link ExperimentMode} whose name equals the first argument if
+	 *         enough further arguments are given, otherwise {@link #COMPARE}
+	 */
+	static ExperimentMode forArguments(String[] args) {
+		if (args.length > 0) {
+			for (ExperimentMode mode : values()) {
+				if (mode.name.equals(args[0]) && args.length > mode.parameterCount) {
+					return mode;
+				}
+			}
+		}
+		return COMPARE;
+	}
+
+	/**
+	 * Perform the measurements of this mode
+	 * 
+	 * @param args A {@link String} array with the program arguments, where the
+	 *             first one selects the mode
+	 */
+	abstract void run(String[] args);
+
+}
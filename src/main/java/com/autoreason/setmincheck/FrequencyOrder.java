@@ -0,0 +1,104 @@
+package com.autoreason.setmincheck;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A permutation of the elements of a collection of sets that ranks the
+ * elements by their frequency, starting with the rarest element
+ * 
+ * <p>
+ * Ordering the elements of a set by their rank instead of their natural order
+ * lets the paths of an {@link UBTree} diverge sooner, so that a lookup can be
+ * pruned earlier. Elements with the same frequency are ranked by their natural
+ * order, and elements that are added later get the next free rank.
+ * </p>
+ *
+ * @see OrderedUBTree
+ */
+public class FrequencyOrder<C extends Comparable<C>> {
+
+	// the rank of each known element
+	final HashMap<C, Integer> ranks;
+
+	/**
+	 * Determine the ranks of all elements contained in the sets of the given
+	 * collection
+	 * 
+	 * @param col A {@link Collection} of {@link Set} elements
+	 */
+	public FrequencyOrder(Collection<Set<C>> col) {
+		// count occurrences of each element
+		HashMap<C, Integer> counts = new HashMap<C, Integer>();
+		for (Set<C> set : col) {
+			for (C elem : set) {
+				counts.merge(elem, 1, Integer::sum);
+			}
+		}
+		// sort elements by ascending frequency
+		ArrayList<C> elems = new ArrayList<C>(counts.keySet());
+		elems.sort((e1, e2) -> {
+			int cmp = Integer.compare(counts.get(e1), counts.get(e2));
+			return cmp != 0 ? cmp : e1.compareTo(e2);
+		});
+
+		this.ranks = new HashMap<C, Integer>(2 * elems.size());
+		for (int i = 0; i < elems.size(); i++) {
+			ranks.put(elems.get(i), i);
+		}
+	}
+
+	/**
+	 * Get the rank of an element
+	 * 
+	 * @param elem An element of type {@code C}
+	 * @return An {@code int} representing the rank of {@code elem}, or {@code -1}
+	 *         if the element is unknown
+	 */
+	public int rankOf(C elem) {
+		Integer rank = ranks.get(elem);
+		return rank == null ? -1 : rank;
+	}
+
+	/**
+	 * Translate a set into the ranks of its elements, where unknown elements get
+	 * the next free rank
+	 * 
+	 * @param set A {@link Set} with elements of type {@code C}
+	 * @return A {@link Set} with the ranks of all elements of {@code set}
+	 */
+	public Set<Integer> addRanks(Set<C> set) {
+		Set<Integer> rankSet = new HashSet<Integer>(2 * set.size());
+		for (C elem : set) {
+			Integer rank = ranks.get(elem);
+			if (rank == null) {
+				rank = ranks.size();
+				ranks.put(elem, rank);
+			}
+			rankSet.add(rank);
+		}
+		return rankSet;
+	}
+
+	/**
+	 * Translate a set into the ranks of its known elements
+	 * 
+	 * @param set A {@link Set} with elements of type {@code C}
+	 * @return A {@link Set} with the ranks of all elements of {@code set} except
+	 *         for the unknown ones
+	 */
+	public Set<Integer> knownRanks(Set<C> set) {
+		Set<Integer> rankSet = new HashSet<Integer>(2 * set.size());
+		for (C elem : set) {
+			Integer rank = ranks.get(elem);
+			if (rank != null) {
+				rankSet.add(rank);
+			}
+		}
+		return rankSet;
+	}
+
+}
@@ -0,0 +1,195 @@
+package com.autoreason.setmincheck;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * An immutable version of an {@link UBTree} whose nodes are stored in
+ * contiguous primitive arrays (similar to the compressed sparse row format) in
+ * order to reduce cache misses and garbage collection overhead for trees that
+ * are only queried after their construction
+ *
+ * <p>
+ * The nodes are numbered in breadth-first order, starting with a virtual root
+ * node with index 0 whose children are the root nodes of the {@link UBTree}.
+ * Thereby, the children of node {@code i} are given by the consecutive indices
+ * from {@code childStart[i]} (inclusive) to {@code childStart[i + 1]}
+ * (exclusive), sorted by their elements. Instead of the elements themselves,
+ * the nodes contain their rank in the sorted array of all distinct elements.
+ * </p>
+ *
+ * @see UBTree#freeze()
+ */
+public class FrozenUBTree<C extends Comparable<C>> {
+
+	/**
+	 * the distinct elements of the tree in ascending order
+	 */
+	final Object[] dictionary;
+
+	/**
+	 * the rank of the element represented by each node (in {@code dictionary})
+	 */
+	final int[] elements;
+
+	/**
+	 * the index of the first child of each node, followed by the total number of
+	 * nodes
+	 */
+	final int[] childStart;
+
+	/**
+	 * the End-of-Path markers of the nodes, packed into bits
+	 */
+	final long[] endOfPath;
+
+	/**
+	 * distance to next closest end-Of-Path marked node for each node
+	 */
+	final int[] distanceToNextEOP;
+
+	/**
+	 * Compile the given {@link UBTree} into its frozen representation
+	 *
+	 * @param ubTree An {@link UBTree}
+	 */
+	FrozenUBTree(UBTree<C> ubTree) {
+		// determine nodes in breadth-first order (null for virtual root)
+		ArrayList<UBTreeNode<C>> order = new ArrayList<UBTreeNode<C>>();
+		order.add(null);
+		ArrayList<Integer> starts = new ArrayList<Integer>();
+		for (int i = 0; i < order.size(); i++) {
+			UBTreeNode<C> node = order.get(i);
+			ArrayList<UBTreeNode<C>> children = new ArrayList<UBTreeNode<C>>(node == null ? ubTree.T : node.children);
+			// ensure sorted children for binary search
+			Collections.sort(children);
+			starts.add(order.size());
+			order.addAll(children);
+		}
+
+		int nodeNr = order.size();
+		// collect distinct elements
+		ArrayList<C> elems = new ArrayList<C>();
+		for (int i = 1; i < nodeNr; i++) {
+			elems.add(order.get(i).element);
+		}
+		Collections.sort(elems);
+		int distinct = 0;
+		for (int i = 0; i < elems.size(); i++) {
+			if (distinct == 0 || elems.get(i).compareTo(elems.get(distinct - 1)) != 0) {
+				elems.set(distinct++, elems.get(i));
+			}
+		}
+		this.dictionary = elems.subList(0, distinct).toArray();
+
+		// fill arrays
+		this.elements = new int[nodeNr];
+		this.childStart = new int[nodeNr + 1];
+		this.endOfPath = new long[(nodeNr + 63) >>> 6];
+		this.distanceToNextEOP = new int[nodeNr];
+		this.distanceToNextEOP[0] = Integer.MAX_VALUE;
+		// virtual root represents the empty set
+		if (ubTree.containsEmptySet) {
+			endOfPath[0] |= 1L;
+		}
+		for (int i = 1; i < nodeNr; i++) {
+			UBTreeNode<C> node = order.get(i);
+			elements[i] = Arrays.binarySearch(dictionary, node.element);
+			if (node.endOfPath) {
+				endOfPath[i >>> 6] |= 1L << i;
+			}
+			distanceToNextEOP[i] = node.distanceToNextEOP;
+		}
+		for (int i = 0; i < nodeNr; i++) {
+			childStart[i] = starts.get(i);
+		}
+		childStart[nodeNr] = nodeNr;
+	}
+
+	/**
+	 * Get the number of nodes of the tree (including the virtual root)
+	 *
+	 * @return A positive {@code int}
+	 */
+	public int size() {
+		return elements.length;
+	}
+
+	/**
+	 * Check if any set below the given node is a subset of the given set
+	 *
+	 * @param node       An {@code int} representing the index of a node whose
+	 *                   children are considered
+	 * @param set        An {@code int[]} of element ranks sorted in ascending
+	 *                   order
+	 * @param startIndex An {@code int} stating the index starting from which the
+	 *                   set elements are considered
+	 * @return {@code true} if a subset of {@code set} is found below {@code node},
+	 *         otherwise {@code false}
+	 */
+	private boolean containsSubsetOf(int node, int[] set, int startIndex) {
+		// range of children that may still contain a set element
+		int from = childStart[node];
+		int to = childStart[node + 1];
+
+		int setSize = set.length;
+		int remainSetSize = setSize - startIndex;
+		// find all children with a related set element
+		for (int index = startIndex; index < setSize && from < to; index++) {
+			remainSetSize--;
+
+			// look for child with set element
+			int i = Arrays.binarySearch(elements, from, to, set[index]);
+			if (i > -1) {
+				// only consider child if distance to next end-of-path marker is not greater
+				// than number of remaining elements
+				if (distanceToNextEOP[i] <= remainSetSize) {
+					if ((endOfPath[i >>> 6] & (1L << i)) != 0) {
+						// subset found
+						return true;
+					}
+					// consider children of child with remaining set elements
+					if (containsSubsetOf(i, set, index + 1)) {
+						return true;
+					}
+				}
+				from = i + 1;
+			} else {
+				// following set elements are greater
+				from = -i - 1;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Check if a given given {@link Set} is minimal w.r.t. the sets represented by
+	 * this FrozenUBTree
+	 *
+	 * @param testSet A {@link Set} with elements of {@link Comparable} type
+	 *                {@code C}
+	 * @return {@code true} if the FrozenUBTree does not contain any subset of
+	 *         {@code testSet}, otherwise {@code false}
+	 */
+	public boolean checkMinimal(Set<C> testSet) {
+		// translate elements into ranks (unknown elements cannot be part of a subset)
+		int[] set = new int[testSet.size()];
+		int size = 0;
+		for (C elem : testSet) {
+			int rank = Arrays.binarySearch(dictionary, elem);
+			if (rank > -1) {
+				set[size++] = rank;
+			}
+		}
+		if (size < set.length) {
+			set = Arrays.copyOf(set, size);
+		}
+		// sort set
+		Arrays.sort(set);
+		// set is only minimal w.r.t. collection if no subsets could be found
+		return (endOfPath[0] & 1L) == 0 && !containsSubsetOf(0, set, 0);
+	}
+
+}
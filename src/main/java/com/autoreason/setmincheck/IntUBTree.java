@@ -0,0 +1,239 @@
+package com.autoreason.setmincheck;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * A variant of the {@link UBTree} that is specialized for sets of {@code int}
+ * values, which avoids boxing the elements and allocating nodes during the
+ * search of a child
+ *
+ */
+public class IntUBTree {
+
+	// virtual node whose children are the root nodes of the included set trees
+	IntUBTreeNode root;
+
+	public IntUBTree() {
+		root = new IntUBTreeNode();
+	}
+
+	/**
+	 * Construct an IntUBTree that contains the sets of the given collection
+	 *
+	 * @param col A {@link Collection} of {@link Set} elements
+	 */
+	public IntUBTree(Collection<Set<Integer>> col) {
+		root = new IntUBTreeNode();
+		// add sets of collection to tree
+		for (Set<Integer> set : col) {
+			insert(toSortedArray(set));
+		}
+	}
+
+	/**
+	 * Construct an IntUBTree that contains the sets of a collection of a
+	 * {@link SetArena}, without creating any intermediate objects
+	 *
+	 * @param arena      A {@link SetArena}
+	 * @param collection An {@code int} stating the index of the collection
+	 */
+	public IntUBTree(SetArena arena, int collection) {
+		root = new IntUBTreeNode();
+		// add sets of collection to tree
+		arena.forEach(collection, (c, elements, from, to) -> insert(elements, from, to));
+	}
+
+	/**
+	 * Convert a {@link Set} of {@link Integer} values into a sorted {@code int[]}
+	 *
+	 * @param set A {@link Set} of {@link Integer} values
+	 * @return An {@code int[]} containing the elements of {@code set} in ascending
+	 *         order
+	 */
+	public static int[] toSortedArray(Set<Integer> set) {
+		int[] array = new int[set.size()];
+		int i = 0;
+		for (Integer elem : set) {
+			array[i++] = elem;
+		}
+		Arrays.sort(array);
+		return array;
+	}
+
+	/**
+	 * Determine the distinct elements of sets
+	 *
+	 * @param sets A {@link Collection} of sets given as {@code int[]}
+	 * @return An {@code int[]} containing each element of {@code sets} once in
+	 *         ascending order
+	 */
+	static int[] sortedUniverse(Collection<int[]> sets) {
+		int total = 0;
+		for (int[] set : sets) {
+			total += set.length;
+		}
+		int[] elements = new int[total];
+		int pos = 0;
+		for (int[] set : sets) {
+			System.arraycopy(set, 0, elements, pos, set.length);
+			pos += set.length;
+		}
+		Arrays.sort(elements);
+		int distinct = 0;
+		for (int i = 0; i < elements.length; i++) {
+			if (distinct == 0 || elements[i] != elements[distinct - 1]) {
+				elements[distinct++] = elements[i];
+			}
+		}
+		return Arrays.copyOf(elements, distinct);
+	}
+
+	/**
+	 * Insert a set into the IntUBTree
+	 *
+	 * @param set An {@code int[]} with distinct elements sorted in ascending order
+	 */
+	public void insert(int[] set) {
+		insert(set, 0, set.length);
+	}
+
+	/**
+	 * Insert a set given by a range of an array into the IntUBTree
+	 *
+	 * @param elements An {@code int[]} whose range contains distinct elements
+	 *                 sorted in ascending order
+	 * @param from     An {@code int} defining the index of the first element
+	 * @param to       An {@code int} defining the index after the last element
+	 */
+	public void insert(int[] elements, int from, int to) {
+		// currently regarded node
+		IntUBTreeNode curNode = root;
+		// number of remaining set elements
+		int remain = to - from;
+		// insert each element
+		for (int k = from; k < to; k++) {
+			int elem = elements[k];
+			remain--;
+			// look for child with set element
+			int i = curNode.indexOf(elem);
+			if (i > -1) {
+				curNode = curNode.children[i];
+				// adapt distance to next EOP if necessary
+				if (curNode.distanceToNextEOP > remain) {
+					curNode.distanceToNextEOP = remain;
+				}
+			} else {
+				// introduce new node at insertion point
+				IntUBTreeNode newNode = new IntUBTreeNode(remain);
+				curNode.addChild(-i - 1, elem, newNode);
+				curNode = newNode;
+			}
+		}
+		// mark last node as end of path
+		curNode.endOfPath = true;
+	}
+
+	/**
+	 * Remove a set from the IntUBTree, together with the nodes that do not lead to
+	 * any other set afterwards
+	 *
+	 * @param set An {@code int[]} with distinct elements sorted in ascending order
+	 * @return {@code true} if {@code set} was contained in the IntUBTree,
+	 *         otherwise {@code false}
+	 */
+	public boolean remove(int[] set) {
+		if (set.length == 0) {
+			// empty set is marked at the virtual root
+			boolean contained = root.endOfPath;
+			root.endOfPath = false;
+			return contained;
+		}
+		// determine nodes on path of set (starting with virtual root)
+		IntUBTreeNode[] path = new IntUBTreeNode[set.length + 1];
+		path[0] = root;
+		for (int k = 0; k < set.length; k++) {
+			int i = path[k].indexOf(set[k]);
+			if (i < 0) {
+				// set not contained
+				return false;
+			}
+			path[k + 1] = path[k].children[i];
+		}
+		if (!path[set.length].endOfPath) {
+			// set not contained
+			return false;
+		}
+		// remove end-of-path marker
+		path[set.length].endOfPath = false;
+
+		// update path bottom-up
+		for (int k = set.length; k > 0; k--) {
+			IntUBTreeNode node = path[k];
+			if (!node.endOfPath && node.childCount == 0) {
+				// node does not lead to any set anymore
+				path[k - 1].removeChild(path[k - 1].indexOf(set[k - 1]));
+			} else if (!node.updateFromChildren()) {
+				// distances of remaining nodes are not affected
+				break;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Check if any set of a subtree is a subset of the given set
+	 *
+	 * @param node       An {@link IntUBTreeNode} whose children are considered
+	 * @param set        An {@code int[]} sorted in ascending order
+	 * @param startIndex An {@code int} stating the index starting from which the
+	 *                   set elements are considered
+	 * @return {@code true} if a subset of {@code set} is found below {@code node},
+	 *         otherwise {@code false}
+	 */
+	boolean containsSubsetOf(IntUBTreeNode node, int[] set, int startIndex) {
+		int setSize = set.length;
+		int remainSetSize = setSize - startIndex;
+		// find all children with a related set element
+		for (int index = startIndex; index < setSize; index++) {
+			remainSetSize--;
+
+			// look for child with set element
+			int i = node.indexOf(set[index]);
+			if (i > -1) {
+				IntUBTreeNode child = node.children[i];
+				// only consider child if distance to next end-of-path marker is not greater
+				// than number of remaining elements
+				if (child.distanceToNextEOP <= remainSetSize) {
+					if (child.endOfPath) {
+						// subset found
+						return true;
+					}
+					// consider children of child with remaining set elements
+					if (containsSubsetOf(child, set, index + 1)) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Check if a given set is minimal w.r.t. the sets represented by this
+	 * IntUBTree
+	 *
+	 * @param testSet An {@code int[]} with distinct elements sorted in ascending
+	 *                order
+	 * @return {@code true} if the IntUBTree does not contain any subset of
+	 *         {@code testSet}, otherwise {@code false}
+	 * @see #toSortedArray(Set)
+	 */
+	public boolean checkMinimal(int[] testSet) {
+		// set is only minimal w.r.t. collection if no subsets could be found (an
+		// end-of-path marker at the virtual root represents the empty set)
+		return !root.endOfPath && !containsSubsetOf(root, testSet, 0);
+	}
+
+}
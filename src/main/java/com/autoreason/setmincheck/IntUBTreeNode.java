@@ -0,0 +1,135 @@
+package com.autoreason.setmincheck;
+
+import java.util.Arrays;
+
+/**
+ * A node for an {@link IntUBTree}, where the children are stored as a sorted
+ * {@code int[]} of elements with a parallel array of child nodes
+ *
+ */
+public class IntUBTreeNode {
+
+	/**
+	 * capacity of the children arrays once the first child is added
+	 */
+	final static int INITIAL_CAPACITY = 2;
+
+	// shared arrays for nodes without children (i.e. leaves)
+	private final static int[] NO_KEYS = new int[0];
+	private final static IntUBTreeNode[] NO_CHILDREN = new IntUBTreeNode[0];
+
+	/**
+	 * the sorted elements of the children
+	 */
+	int[] keys;
+
+	/**
+	 * the children of the node, where {@code children[i]} represents the element
+	 * {@code keys[i]}
+	 */
+	IntUBTreeNode[] children;
+
+	/**
+	 * the number of children
+	 */
+	int childCount;
+
+	/**
+	 * the End-of-Path marker, where a path refers to a sorted arrangement of a set
+	 */
+	boolean endOfPath;
+
+	/**
+	 * distance to next closest end-Of-Path marked node
+	 */
+	int distanceToNextEOP;
+
+	public IntUBTreeNode() {
+		this.keys = NO_KEYS;
+		this.children = NO_CHILDREN;
+		this.childCount = 0;
+		this.endOfPath = false;
+		this.distanceToNextEOP = Integer.MAX_VALUE;
+	}
+
+	public IntUBTreeNode(int dist) {
+		this();
+		this.endOfPath = dist == 0;
+		this.distanceToNextEOP = dist;
+	}
+
+	/**
+	 * Look for the child that represents the given element
+	 *
+	 * @param elem An {@code int} value
+	 * @return The index of the child for {@code elem}, if present, otherwise
+	 *         {@code (-(insertion point) - 1)}
+	 * @see Arrays#binarySearch(int[], int, int, int)
+	 */
+	int indexOf(int elem) {
+		return Arrays.binarySearch(keys, 0, childCount, elem);
+	}
+
+	/**
+	 * Insert a child at the given position, keeping the children sorted
+	 *
+	 * @param pos   An {@code int} defining the insertion point as returned by
+	 *              {@link #indexOf(int)}
+	 * @param elem  The {@code int} element represented by the child
+	 * @param child The new {@link IntUBTreeNode}
+	 */
+	void addChild(int pos, int elem, IntUBTreeNode child) {
+		// grow arrays if necessary
+		if (childCount == keys.length) {
+			int capacity = Math.max(INITIAL_CAPACITY, keys.length * 2);
+			keys = Arrays.copyOf(keys, capacity);
+			children = Arrays.copyOf(children, capacity);
+		}
+		// shift greater elements to the right
+		System.arraycopy(keys, pos, keys, pos + 1, childCount - pos);
+		System.arraycopy(children, pos, children, pos + 1, childCount - pos);
+		keys[pos] = elem;
+		children[pos] = child;
+		childCount++;
+	}
+
+	/**
+	 * Remove the child at the given position
+	 *
+	 * @param pos An {@code int} defining the index of the child
+	 */
+	void removeChild(int pos) {
+		// shift greater elements to the left
+		System.arraycopy(keys, pos + 1, keys, pos, childCount - pos - 1);
+		System.arraycopy(children, pos + 1, children, pos, childCount - pos - 1);
+		childCount--;
+		children[childCount] = null;
+	}
+
+	/**
+	 * Update the distance to the next closest node that is marked as End-Of-Path
+	 * based on the current distances of the children (without descending further)
+	 *
+	 * @return {@code true} if the distance has changed, otherwise {@code false}
+	 */
+	boolean updateFromChildren() {
+		int dist;
+		if (endOfPath) {
+			dist = 0;
+		} else {
+			// get minimum distance from children
+			int minDistance = Integer.MAX_VALUE;
+			for (int i = 0; i < childCount; i++) {
+				if (minDistance > children[i].distanceToNextEOP) {
+					minDistance = children[i].distanceToNextEOP;
+				}
+			}
+			// one greater than child minimum (if any end-of-path node exists below)
+			dist = minDistance == Integer.MAX_VALUE ? Integer.MAX_VALUE : minDistance + 1;
+		}
+		boolean changed = dist != distanceToNextEOP;
+		distanceToNextEOP = dist;
+		return changed;
+	}
+
+}
@@ -0,0 +1,180 @@
+package com.autoreason.setmincheck;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A minimality checker based on an inverted index that stores for each element
+ * the identifiers of the sets containing it
+ *
+ * <p>
+ * For a test set, the posting lists of its elements are traversed and the hits
+ * of each set are counted. A set whose number of hits reaches its size is a
+ * subset of the test set, so that the check stops at the first such set. The
+ * costs only depend on the lengths of the posting lists of the test set's
+ * elements, and not on the size of the collection.
+ * </p>
+ *
+ */
+public class InvertedIndexChecker {
+
+	/**
+	 * the distinct elements of the indexed sets in ascending order
+	 */
+	final int[] universe;
+
+	/**
+	 * the position of the posting list of each element of {@link #universe} in
+	 * {@link #postings}, followed by the total number of postings
+	 */
+	final int[] postingStart;
+
+	/**
+	 * the identifiers of the sets containing each element in ascending order
+	 */
+	final int[] postings;
+
+	/**
+	 * the size of each set, or {@code Integer.MAX_VALUE} if it has been removed
+	 */
+	final int[] sizes;
+
+	/**
+	 * the number of empty sets in the index, which are subsets of every set
+	 */
+	int emptySets;
+
+	// number of hits of each set for the current test set
+	private final int[] counters;
+	// identifiers of the sets with hits for the current test set
+	private final int[] touched;
+
+	/**
+	 * Construct an {@link InvertedIndexChecker} containing the given sets
+	 *
+	 * @param sets A {@link Collection} of sets given as {@code int[]} without
+	 *             duplicates
+	 */
+	public InvertedIndexChecker(Collection<int[]> sets) {
+		int n = sets.size();
+		this.sizes = new int[n];
+		this.counters = new int[n];
+		this.touched = new int[n];
+
+		// determine distinct elements
+		this.universe = IntUBTree.sortedUniverse(sets);
+		int distinct = universe.length;
+
+		// count postings of each element
+		this.postingStart = new int[distinct + 1];
+		for (int[] set : sets) {
+			for (int e : set) {
+				postingStart[Arrays.binarySearch(universe, e) + 1]++;
+			}
+		}
+		for (int i = 0; i < distinct; i++) {
+			postingStart[i + 1] += postingStart[i];
+		}
+		// fill posting lists in order of set identifiers
+		this.postings = new int[postingStart[distinct]];
+		int[] next = Arrays.copyOf(postingStart, distinct);
+		int s = 0;
+		for (int[] set : sets) {
+			sizes[s] = set.length;
+			if (set.length == 0) {
+				emptySets++;
+			}
+			for (int e : set) {
+				postings[next[Arrays.binarySearch(universe, e)]++] = s;
+			}
+			s++;
+		}
+	}
+
+	/**
+	 * Check if a given set is minimal w.r.t. the indexed sets
+	 *
+	 * @param testSet An {@code int[]} without duplicates
+	 * @return {@code true} if no indexed set is a subset of {@code testSet},
+	 *         otherwise {@code false}
+	 */
+	public boolean checkMinimal(int[] testSet) {
+		if (emptySets > 0) {
+			return false;
+		}
+		boolean minimal = true;
+		int touchedNr = 0;
+		for (int i = 0; i < testSet.length && minimal; i++) {
+			int element = Arrays.binarySearch(universe, testSet[i]);
+			if (element < 0) {
+				// element of no indexed set
+				continue;
+			}
+			for (int p = postingStart[element]; p < postingStart[element + 1]; p++) {
+				int set = postings[p];
+				int count = ++counters[set];
+				if (count == 1) {
+					touched[touchedNr++] = set;
+				}
+				if (count == sizes[set]) {
+					// all elements of set are contained in test set
+					minimal = false;
+					break;
+				}
+			}
+		}
+		// reset counters for next test set
+		for (int i = 0; i < touchedNr; i++) {
+			counters[touched[i]] = 0;
+		}
+		return minimal;
+	}
+
+	/**
+	 * Remove a set from the index, which keeps its postings but can no longer be
+	 * reported as subset
+	 *
+	 * @param set An {@code int[]} without duplicates
+	 * @return {@code true} if the index contained {@code set}
+	 */
+	public boolean remove(int[] set) {
+		if (set.length == 0) {
+			if (emptySets == 0) {
+				return false;
+			}
+			emptySets--;
+			return true;
+		}
+		// candidates are the sets containing the first element
+		int element = Arrays.binarySearch(universe, set[0]);
+		if (element < 0) {
+			return false;
+		}
+		for (int p = postingStart[element]; p < postingStart[element + 1]; p++) {
+			int s = postings[p];
+			if (sizes[s] == set.length && containsAll(s, set)) {
+				sizes[s] = Integer.MAX_VALUE;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Check if an indexed set contains all elements of a given set
+	 *
+	 * @param s   An {@code int} identifying an indexed set
+	 * @param set An {@code int[]}
+	 * @return {@code true} if set {@code s} contains all elements of {@code set}
+	 */
+	private boolean containsAll(int s, int[] set) {
+		for (int e : set) {
+			int element = Arrays.binarySearch(universe, e);
+			if (element < 0 || Arrays.binarySearch(postings, postingStart[element], postingStart[element + 1], s) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
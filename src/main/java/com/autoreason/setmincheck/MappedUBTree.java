@@ -0,0 +1,146 @@
+package com.autoreason.setmincheck;
+
+import java.nio.IntBuffer;
+
+/**
+ * A read-only {@link UBTree} of {@code int} values that operates directly on
+ * a memory-mapped snapshot without creating any node objects
+ *
+ * @see UBTreeSnapshot
+ */
+public class MappedUBTree {
+
+	/**
+	 * the number of nodes (including the virtual root)
+	 */
+	final int nodeNr;
+
+	/**
+	 * the element represented by each node
+	 */
+	final IntBuffer elements;
+
+	/**
+	 * the index of the first child of each node, followed by the total number of
+	 * nodes
+	 */
+	final IntBuffer childStart;
+
+	/**
+	 * distance to next closest end-Of-Path marked node for each node
+	 */
+	final IntBuffer distanceToNextEOP;
+
+	/**
+	 * the End-of-Path markers of the nodes, packed into bits
+	 */
+	final IntBuffer endOfPath;
+
+	MappedUBTree(int nodeNr, IntBuffer elements, IntBuffer childStart, IntBuffer distanceToNextEOP,
+			IntBuffer endOfPath) {
+		this.nodeNr = nodeNr;
+		this.elements = elements;
+		this.childStart = childStart;
+		this.distanceToNextEOP = distanceToNextEOP;
+		this.endOfPath = endOfPath;
+	}
+
+	/**
+	 * Get the number of nodes of the tree (including the virtual root)
+	 *
+	 * @return A positive {@code int}
+	 */
+	public int size() {
+		return nodeNr;
+	}
+
+	/**
+	 * Look for a child with the given element by means of a binary search
+	 *
+	 * @param from An {@code int} defining the index of the first considered child
+	 * @param to   An {@code int} defining the index after the last considered
+	 *             child
+	 * @param elem An {@code int} value
+	 * @return The index of the child for {@code elem}, if present, otherwise
+	 *         {@code (-(insertion point) - 1)}
+	 */
+	private int indexOf(int from, int to, int elem) {
+		int low = from;
+		int high = to - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int midElem = elements.get(mid);
+			if (midElem < elem) {
+				low = mid + 1;
+			} else if (midElem > elem) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(low + 1);
+	}
+
+	/**
+	 * Check if any set below the given node is a subset of the given set
+	 *
+	 * @param node       An {@code int} representing the index of a node whose
+	 *                   children are considered
+	 * @param set        An {@code int[]} sorted in ascending order
+	 * @param startIndex An {@code int} stating the index starting from which the
+	 *                   set elements are considered
+	 * @return {@code true} if a subset of {@code set} is found below {@code node},
+	 *         otherwise {@code false}
+	 */
+	private boolean containsSubsetOf(int node, int[] set, int startIndex) {
+		// range of children that may still contain a set element
+		int from = childStart.get(node);
+		int to = childStart.get(node + 1);
+
+		int setSize = set.length;
+		int remainSetSize = setSize - startIndex;
+		// find all children with a related set element
+		for (int index = startIndex; index < setSize && from < to; index++) {
+			remainSetSize--;
+
+			// look for child with set element
+			int i = indexOf(from, to, set[index]);
+			if (i > -1) {
+				// only consider child if distance to next end-of-path marker is not greater
+				// than number of remaining elements
+				if (distanceToNextEOP.get(i) <= remainSetSize) {
+					if ((endOfPath.get(i >>> 5) & (1 << i)) != 0) {
+						// subset found
+						return true;
+					}
+					// consider children of child with remaining set elements
+					if (containsSubsetOf(i, set, index + 1)) {
+						return true;
+					}
+				}
+				from = i + 1;
+			} else {
+				// following set elements are greater
+				from = -i - 1;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Check if a given set is minimal w.r.t. the sets represented by this
+	 * MappedUBTree
+	 *
+	 * @param testSet An {@code int[]} with distinct elements sorted in ascending
+	 *                order
+	 * @return {@code true} if the MappedUBTree does not contain any subset of
+	 *         {@code testSet}, otherwise {@code false}
+	 * @see IntUBTree#toSortedArray(java.util.Set)
+	 */
+	public boolean checkMinimal(int[] testSet) {
+		// set is only minimal w.r.t. collection if no subsets could be found (the
+		// virtual root represents the empty set)
+		return (endOfPath.get(0) & 1) == 0 && !containsSubsetOf(0, testSet, 0);
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.autoreason.setmincheck;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * An {@link UBTree} whose sets are ordered by the {@link FrequencyOrder} of
+ * their elements instead of the natural order, which is applied transparently
+ * for insertions and lookups
+ *
+ */
+public class OrderedUBTree<C extends Comparable<C>> {
+
+	// the ranks of the elements
+	final FrequencyOrder<C> order;
+	// the tree containing the sets with their elements replaced by ranks
+	final UBTree<Integer> tree;
+
+	/**
+	 * Construct an OrderedUBTree that contains the sets of the given collection,
+	 * where the elements are ranked by their frequency in the collection
+	 * 
+	 * @param col A {@link Collection} of {@link Set} elements
+	 */
+	public OrderedUBTree(Collection<Set<C>> col) {
+		this.order = new FrequencyOrder<C>(col);
+		// translate sets into ranks
+		ArrayList<Set<Integer>> rankCol = new ArrayList<Set<Integer>>(col.size());
+		for (Set<C> set : col) {
+			rankCol.add(order.knownRanks(set));
+		}
+		this.tree = new UBTree<Integer>(rankCol);
+	}
+
+	/**
+	 * Insert a {@link Set} into the OrderedUBTree, where elements that have not
+	 * occurred so far are ranked after all known elements
+	 * 
+	 * @param set A {@link Set}
+	 */
+	public void insert(Set<C> set) {
+		tree.insert(order.addRanks(set));
+	}
+
+	/**
+	 * Remove a {@link Set} from the OrderedUBTree
+	 * 
+	 * @param set A {@link Set}
+	 * @return {@code true} if {@code set} was contained in the OrderedUBTree,
+	 *         otherwise {@code false}
+	 */
+	public boolean remove(Set<C> set) {
+		Set<Integer> rankSet = order.knownRanks(set);
+		// sets with unknown elements cannot be contained
+		return rankSet.size() == set.size() && tree.remove(rankSet);
+	}
+
+	/**
+	 * Check if a given given {@link Set} is minimal w.r.t. the sets represented by
+	 * this OrderedUBTree
+	 * 
+	 * @param testSet A {@link Set} with elements of {@link Comparable} type
+	 *                {@code C}
+	 * @return {@code true} if the OrderedUBTree does not contain any subset of
+	 *         {@code testSet}, otherwise {@code false}
+	 */
+	public boolean checkMinimal(Set<C> testSet) {
+		// unknown elements cannot be part of a subset
+		return tree.checkMinimal(order.knownRanks(testSet));
+	}
+
+}
@@ -0,0 +1,217 @@
+package com.autoreason.setmincheck;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.autoreason.setmincheck.expindex.ExpIndexType;
+
+/**
+ * Runs the experiment of {@link RunExperiment} with one worker JVM per test
+ * file and index type, where several workers are executed in parallel and
+ * their results are merged into {@code results.csv} and
+ * {@code throughput.csv}
+ *
+ * <p>
+ * The first program argument defines the number of parallel workers (default:
+ * number of available processors). If the second argument is {@code pin},
+ * every worker is bound to its own core by means of {@code taskset}. The JVM
+ * options of the workers are given by the system property
+ * {@code experiment.workerOptions}. All workers use the seed of this JVM for
+ * drawing the test sets, so that the results of a test file refer to the same
+ * queries.
+ * </p>
+ */
+public class ParallelExperimentRunner {
+
+	/**
+	 * the JVM options of the worker processes
+	 */
+	final static String WORKER_OPTIONS = System.getProperty("experiment.workerOptions", "-XX:-UseGCOverheadLimit");
+
+	public static void main(String[] args) {
+		int parallelism = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+		boolean pin = args.length > 1 && args[1].equals("pin");
+
+		// types of tested indexes
+		ExpIndexType[] indexTypes = ExpIndexType.values();
+
+		try {
+			// list all test files
+			String[] fileNames = RunExperiment.readFileNames();
+			int jobNr = fileNames.length * indexTypes.length;
+
+			// build time, query latency and memory of each job (null if job failed)
+			long[][][] results = new long[fileNames.length][indexTypes.length][];
+			// cores that are not used by any running job
+			BlockingQueue<Integer> freeCores = new ArrayBlockingQueue<Integer>(parallelism);
+			for (int core = 0; core < parallelism; core++) {
+				freeCores.add(core);
+			}
+			AtomicInteger finished = new AtomicInteger();
+
+			// submit a job for each test file and index type
+			ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+			ArrayList<Future<?>> jobs = new ArrayList<Future<?>>(jobNr);
+			for (int i = 0; i < fileNames.length; i++) {
+				for (int k = 0; k < indexTypes.length; k++) {
+					final int fileIndex = i;
+					final int typeIndex = k;
+					jobs.add(executor.submit(() -> {
+						int core = freeCores.take();
+						try {
+							results[fileIndex][typeIndex] = runJob(fileNames[fileIndex], indexTypes[typeIndex],
+									pin ? core : -1);
+						} finally {
+							freeCores.add(core);
+							// show current experiment progress
+							System.out.println("finished: " + finished.incrementAndGet() + "/" + jobNr);
+						}
+						return null;
+					}));
+				}
+			}
+			executor.shutdown();
+			for (Future<?> job : jobs) {
+				try {
+					job.get();
+				} catch (ExecutionException e) {
+					e.getCause().printStackTrace();
+				}
+			}
+
+			writeResults(fileNames, indexTypes, results);
+
+			// experiment finished
+			System.out.println("done");
+
+		} catch (IOException e) {
+			e.printStackTrace();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Perform the experiment for a single test file and index type in a new JVM
+	 * 
+	 * @param fileName  A {@link String} with the name of a test file
+	 * @param indexType An {@link ExpIndexType}
+	 * @param core      An {@code int} defining the core to which the JVM is bound,
+	 *                  or a negative value if the JVM may use all cores
+	 * @return A {@code long[]} with the time needed to build the indexes, the
+	 *         average time for the minimality check (both in nanoseconds), the
+	 *         heap memory retained by the indexes (in bytes) and the average time
+	 *         for removing a set (in nanoseconds)
+	 * @throws IOException          if the JVM cannot be started or fails
+	 * @throws InterruptedException if the thread is interrupted while waiting for
+	 *                              the JVM
+	 */
+	static long[] runJob(String fileName, ExpIndexType indexType, int core) throws IOException, InterruptedException {
+		ArrayList<String> command = new ArrayList<String>();
+		if (core >= 0) {
+			command.add("taskset");
+			command.add("-c");
+			command.add(String.valueOf(core));
+		}
+		command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+		for (String option : WORKER_OPTIONS.trim().split("\\s+")) {
+			if (!option.isEmpty()) {
+				command.add(option);
+			}
+		}
+		// draw the same test sets in every worker
+		command.add("-Dexperiment.seed=" + DataProvider.SEED);
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(RunExperiment.class.getName());
+		command.add("job");
+		command.add(fileName);
+		command.add(indexType.name());
+
+		Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+		// result is given by last line of output
+		String result = null;
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!line.isEmpty()) {
+					result = line;
+				}
+			}
+		}
+		int exitCode = process.waitFor();
+		if (exitCode != 0 || result == null) {
+			throw new IOException(
+					"Job for " + indexType.getName() + " on " + fileName + " failed with exit code " + exitCode);
+		}
+		String[] values = result.split(",");
+		return new long[] { Long.parseLong(values[0]), Long.parseLong(values[1]), Long.parseLong(values[2]),
+				Long.parseLong(values[3]) };
+	}
+
+	/**
+	 * Write the results of all jobs to {@code RESULT_FILE} and
+	 * {@code THROUGHPUT_FILE} of {@link RunExperiment}, where failed jobs are
+	 * marked by {@code NA}
+	 * 
+	 * @param fileNames  A {@link String} array with the names of the test files
+	 * @param indexTypes An array of {@link ExpIndexType} values
+	 * @param results    A {@code long[][][]} containing for each test file and
+	 *                   index type the build time, query latency, memory and
+	 *                   removal time, or {@code null} if the job failed
+	 * @throws IOException if the results cannot be written
+	 */
+	static void writeResults(String[] fileNames, ExpIndexType[] indexTypes, long[][][] results) throws IOException {
+		try (BufferedWriter buffWriter = new BufferedWriter(new FileWriter(RunExperiment.RESULT_FILE));
+				BufferedWriter throughputWriter = new BufferedWriter(
+						new FileWriter(RunExperiment.THROUGHPUT_FILE))) {
+			// write used classes to file as names for columns
+			String line = "test-file";
+			for (int k = 0; k < indexTypes.length; k++) {
+				line = line + "," + indexTypes[k].getName();
+			}
+			buffWriter.write(line);
+			buffWriter.newLine();
+			throughputWriter.write(RunExperiment.THROUGHPUT_HEADER);
+			throughputWriter.newLine();
+
+			for (int i = 0; i < fileNames.length; i++) {
+				String testName = fileNames[i].substring(0, fileNames[i].indexOf("."));
+				long[] buildTimes = new long[indexTypes.length];
+				long[] footprints = new long[indexTypes.length];
+				long[] measuredTimes = new long[indexTypes.length];
+				long[] removalTimes = new long[indexTypes.length];
+				line = testName;
+				for (int k = 0; k < indexTypes.length; k++) {
+					if (results[i][k] == null) {
+						line = line + ",NA";
+						measuredTimes[k] = -1;
+					} else {
+						buildTimes[k] = results[i][k][0];
+						measuredTimes[k] = results[i][k][1];
+						footprints[k] = results[i][k][2];
+						removalTimes[k] = results[i][k][3];
+						line = line + "," + measuredTimes[k];
+					}
+				}
+				buffWriter.write(line);
+				buffWriter.newLine();
+				RunExperiment.writeThroughput(throughputWriter, testName, indexTypes, buildTimes, footprints,
+						measuredTimes, removalTimes);
+			}
+		}
+	}
+
+}
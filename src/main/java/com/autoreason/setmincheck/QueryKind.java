@@ -0,0 +1,28 @@
+package com.autoreason.setmincheck;
+
+/**
+ * The kinds of queries generated for a {@link QueryWorkload}, each defined
+ * w.r.t. the collection against which the query is checked
+ *
+ */
+public enum QueryKind {
+
+	/**
+	 * a proper subset of a stored set that is minimal w.r.t. the collection
+	 */
+	MINIMAL,
+	/**
+	 * a set that is also stored in the collection and thus not minimal
+	 */
+	NON_MINIMAL,
+	/**
+	 * a proper superset of a stored set, which is not minimal either
+	 */
+	SUPERSET,
+	/**
+	 * a set of random elements drawn from the elements of all collections, whose
+	 * size is taken from a stored set
+	 */
+	RANDOM;
+
+}
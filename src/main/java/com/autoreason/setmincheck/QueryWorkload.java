@@ -0,0 +1,264 @@
+package com.autoreason.setmincheck;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A reproducible list of queries for minimality checking, which consists of
+ * the different {@link QueryKind} values in given proportions
+ *
+ */
+public class QueryWorkload {
+
+	/**
+	 * number of attempts for finding a minimal proper subset of a stored set
+	 */
+	final static int MINIMAL_ATTEMPTS = 10;
+
+	/**
+	 * A query of the workload
+	 */
+	static class Query {
+		/**
+		 * the set whose minimality is checked
+		 */
+		final Set<Integer> set;
+		/**
+		 * the index of the collection against which the set is checked
+		 */
+		final int collection;
+		/**
+		 * the kind of the query
+		 */
+		final QueryKind kind;
+		/**
+		 * the expected result of the minimality check
+		 */
+		final boolean minimal;
+
+		Query(Set<Integer> set, int collection, QueryKind kind, boolean minimal) {
+			this.set = set;
+			this.collection = collection;
+			this.kind = kind;
+			this.minimal = minimal;
+		}
+	}
+
+	/**
+	 * the generated queries in random order
+	 */
+	final ArrayList<Query> queries;
+
+	private QueryWorkload(ArrayList<Query> queries) {
+		this.queries = queries;
+	}
+
+	/**
+	 * Generate a workload of queries for the given collections
+	 * 
+	 * <p>
+	 * Each query is derived from a set drawn uniformly from all stored sets, and
+	 * the number of queries of each kind is the size of the workload multiplied by
+	 * its share of the proportions. If no minimal proper subset of a stored set
+	 * can be found within {@code MINIMAL_ATTEMPTS} attempts, a {@code MINIMAL}
+	 * query consists of an element that is not contained in any collection.
+	 * </p>
+	 * 
+	 * @param collections An {@link ArrayList} of {@link Collection} elements
+	 *                    containing {@link Set} objects, which must not all be
+	 *                    empty
+	 * @param size        An {@code int} defining the number of queries
+	 * @param proportions A {@code double[]} with a non-negative weight for each
+	 *                    element of {@link QueryKind#values()}
+	 * @param seed        A {@code long} value used for the generation of random
+	 *                    values
+	 * @return A {@link QueryWorkload} with {@code size} queries
+	 */
+	public static QueryWorkload generate(ArrayList<Collection<Set<Integer>>> collections, int size,
+			double[] proportions, long seed) {
+		QueryKind[] kinds = QueryKind.values();
+		if (proportions.length != kinds.length) {
+			throw new IllegalArgumentException("Expected " + kinds.length + " proportions");
+		}
+		double sum = 0;
+		for (double p : proportions) {
+			if (p < 0) {
+				throw new IllegalArgumentException("Negative proportion " + p);
+			}
+			sum += p;
+		}
+		if (sum <= 0) {
+			throw new IllegalArgumentException("Proportions must not all be zero");
+		}
+
+		// flatten collections to draw sets uniformly
+		ArrayList<ArrayList<Set<Integer>>> cols = new ArrayList<ArrayList<Set<Integer>>>();
+		ArrayList<Set<Integer>> sets = new ArrayList<Set<Integer>>();
+		ArrayList<Integer> setCollections = new ArrayList<Integer>();
+		TreeSet<Integer> elements = new TreeSet<Integer>();
+		for (int c = 0; c < collections.size(); c++) {
+			cols.add(new ArrayList<Set<Integer>>(collections.get(c)));
+			for (Set<Integer> set : collections.get(c)) {
+				sets.add(set);
+				setCollections.add(c);
+				elements.addAll(set);
+			}
+		}
+		if (sets.isEmpty()) {
+			throw new IllegalArgumentException("No sets to derive queries from");
+		}
+		Integer[] universe = elements.toArray(new Integer[elements.size()]);
+		int unused = universe.length == 0 ? 0 : universe[universe.length - 1] + 1;
+
+		// determine kind of each query, distributing the remainder to the first kinds
+		ArrayList<QueryKind> queryKinds = new ArrayList<QueryKind>(size);
+		for (int k = 0; k < kinds.length; k++) {
+			long count = (long) (size * proportions[k] / sum);
+			for (long i = 0; i < count; i++) {
+				queryKinds.add(kinds[k]);
+			}
+		}
+		for (int k = 0; queryKinds.size() < size; k++) {
+			if (proportions[k % kinds.length] > 0) {
+				queryKinds.add(kinds[k % kinds.length]);
+			}
+		}
+		Random random = new Random(seed);
+		Collections.shuffle(queryKinds, random);
+
+		ArrayList<Query> queries = new ArrayList<Query>(size);
+		for (QueryKind kind : queryKinds) {
+			int index = random.nextInt(sets.size());
+			Set<Integer> stored = sets.get(index);
+			int c = setCollections.get(index);
+			Set<Integer> set;
+			switch (kind) {
+			case MINIMAL:
+				set = null;
+				for (int a = 0; a < MINIMAL_ATTEMPTS && set == null; a++) {
+					if (a > 0) {
+						// try another stored set
+						index = random.nextInt(sets.size());
+						stored = sets.get(index);
+						c = setCollections.get(index);
+					}
+					Set<Integer> subset = randomSubset(stored, random);
+					if (subset != null && isMinimal(cols.get(c), subset)) {
+						set = subset;
+					}
+				}
+				if (set == null) {
+					set = new HashSet<Integer>(Collections.singleton(unused));
+				}
+				queries.add(new Query(set, c, kind, true));
+				break;
+			case NON_MINIMAL:
+				queries.add(new Query(new HashSet<Integer>(stored), c, kind, false));
+				break;
+			case SUPERSET:
+				set = new HashSet<Integer>(stored);
+				int extra = 1 + random.nextInt(Math.max(1, stored.size()));
+				for (int i = 0; i < extra && universe.length > 0; i++) {
+					set.add(universe[random.nextInt(universe.length)]);
+				}
+				if (set.size() == stored.size()) {
+					// all drawn elements already contained
+					set.add(unused);
+				}
+				queries.add(new Query(set, c, kind, false));
+				break;
+			default:
+				set = new HashSet<Integer>();
+				int setSize = Math.min(stored.size(), universe.length);
+				while (set.size() < setSize) {
+					set.add(universe[random.nextInt(universe.length)]);
+				}
+				queries.add(new Query(set, c, kind, isMinimal(cols.get(c), set)));
+			}
+		}
+		return new QueryWorkload(queries);
+	}
+
+	/**
+	 * Parse the proportions of the query kinds
+	 * 
+	 * @param proportions A {@link String} with comma-separated weights in the
+	 *                    order of {@link QueryKind#values()}
+	 * @return A {@code double[]}
+	 */
+	public static double[] parseProportions(String proportions) {
+		String[] values = proportions.split(",");
+		double[] result = new double[values.length];
+		for (int i = 0; i < values.length; i++) {
+			result[i] = Double.parseDouble(values[i].trim());
+		}
+		return result;
+	}
+
+	/**
+	 * Get the queries of the workload
+	 * 
+	 * @return An unmodifiable {@link List} of {@link Query} objects
+	 */
+	public List<Query> getQueries() {
+		return Collections.unmodifiableList(queries);
+	}
+
+	/**
+	 * Get the number of queries of a given kind
+	 * 
+	 * @param kind A {@link QueryKind}
+	 * @return An {@code int}
+	 */
+	public int count(QueryKind kind) {
+		int count = 0;
+		for (Query query : queries) {
+			if (query.kind == kind) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Draw a random non-empty proper subset of a set
+	 * 
+	 * @param set    A {@link Set} of {@link Integer} values
+	 * @param random A {@link Random} object
+	 * @return A {@link Set} or {@code null} if {@code set} has less than two
+	 *         elements
+	 */
+	private static Set<Integer> randomSubset(Set<Integer> set, Random random) {
+		if (set.size() < 2) {
+			return null;
+		}
+		ArrayList<Integer> elements = new ArrayList<Integer>(set);
+		Collections.shuffle(elements, random);
+		// keep between one and size - 1 elements
+		return new HashSet<Integer>(elements.subList(0, 1 + random.nextInt(elements.size() - 1)));
+	}
+
+	/**
+	 * Check if a set is minimal w.r.t. a collection by testing every stored set
+	 * 
+	 * @param collection An {@link ArrayList} of {@link Set} elements
+	 * @param set        A {@link Set} of {@link Integer} values
+	 * @return {@code true} if no element of {@code collection} is a subset of
+	 *         {@code set}
+	 */
+	static boolean isMinimal(ArrayList<Set<Integer>> collection, Set<Integer> set) {
+		for (Set<Integer> stored : collection) {
+			if (set.containsAll(stored)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
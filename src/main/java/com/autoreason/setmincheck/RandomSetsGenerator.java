@@ -0,0 +1,263 @@
+package com.autoreason.setmincheck;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A generator for large files of random set collections in the text format of
+ * {@code SetFileConverter}, which creates blocks of sets in parallel and
+ * streams them to the file in their original order
+ *
+ * <p>
+ * All sets of a collection have the same number of elements drawn from
+ * {@code [0, range)}, which lies between half of {@code maxSize} (rounded up)
+ * and {@code maxSize} and is chosen randomly for each collection. Since
+ * distinct sets of equal size cannot contain each other, each collection is
+ * minimal without having to be kept in memory, as long as it contains no
+ * duplicates. Duplicates are skipped within a block of sets, while duplicates
+ * in different blocks are possible but unlikely if there are far more distinct
+ * sets of the given size than sets in a collection. The random values of a
+ * block only depend on the seed and the position of the block, so that the
+ * generated file is the same for any number of threads.
+ * </p>
+ *
+ */
+public class RandomSetsGenerator {
+
+	/**
+	 * number of sets generated by a single task
+	 */
+	final static int BLOCK_SIZE = 4096;
+
+	/**
+	 * number of blocks that are generated ahead of the block written next, per
+	 * thread
+	 */
+	final static int BLOCKS_AHEAD = 2;
+
+	/**
+	 * Create a file that contains randomly generated collections of minimal sets
+	 *
+	 * @param file    A {@link Path} defining the file where the created
+	 *                collections are stored
+	 * @param numCols An {@code int} value defining the number of created
+	 *                collections
+	 * @param numSets An {@code int} value defining the number of sets contained in
+	 *                a collection
+	 * @param maxSize An {@code int} value defining the maximum number of randomly
+	 *                drawn elements for the generated sets
+	 * @param range   An {@code int} value defining the upper limit of the randomly
+	 *                drawn {@link Integer} values for the sets
+	 * @param seed    A {@code long} value used for the generation of random values
+	 * @param threads An {@code int} defining the number of threads generating the
+	 *                sets
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void generate(Path file, int numCols, int numSets, int maxSize, int range, long seed, int threads)
+			throws IOException {
+		if (numCols < 0 || numSets < 0 || maxSize < 1 || range < maxSize || threads < 1) {
+			throw new IllegalArgumentException("Invalid generator parameters");
+		}
+		// binomial coefficient is smallest for the smallest or greatest set size
+		int blockSets = Math.min(numSets, BLOCK_SIZE);
+		if (binomial(range, minSize(maxSize)) < blockSets || binomial(range, maxSize) < blockSets) {
+			throw new IllegalArgumentException("Range too small for " + blockSets + " distinct sets");
+		}
+		try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)) {
+			generate(out, numCols, numSets, maxSize, range, seed, threads);
+		}
+	}
+
+	/**
+	 * Write randomly generated collections of minimal sets to a stream
+	 *
+	 * @param out     An {@link OutputStream} to which the collections are written
+	 * @param numCols An {@code int} value defining the number of created
+	 *                collections
+	 * @param numSets An {@code int} value defining the number of sets contained in
+	 *                a collection
+	 * @param maxSize An {@code int} value defining the maximum number of randomly
+	 *                drawn elements for the generated sets
+	 * @param range   An {@code int} value defining the upper limit of the randomly
+	 *                drawn {@link Integer} values for the sets
+	 * @param seed    A {@code long} value used for the generation of random values
+	 * @param threads An {@code int} defining the number of threads generating the
+	 *                sets
+	 * @throws IOException if the collections cannot be written
+	 */
+	static void generate(OutputStream out, int numCols, int numSets, int maxSize, int range, long seed, int threads)
+			throws IOException {
+		int blocksPerCol = (numSets + BLOCK_SIZE - 1) / BLOCK_SIZE;
+		long blocks = (long) numCols * blocksPerCol;
+		// size of the sets of each collection
+		int[] sizes = new int[numCols];
+		SplittableRandom sizeRandom = new SplittableRandom(mix(~seed));
+		for (int c = 0; c < numCols; c++) {
+			sizes[c] = minSize(maxSize) + sizeRandom.nextInt(maxSize - minSize(maxSize) + 1);
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			// blocks that are being generated, in the order they are written
+			ArrayDeque<Future<byte[]>> pending = new ArrayDeque<Future<byte[]>>();
+			long submitted = 0;
+			for (int c = 0; c < numCols; c++) {
+				for (int b = 0; b < blocksPerCol; b++) {
+					// keep a bounded number of blocks in memory
+					while (submitted < blocks && pending.size() < threads * BLOCKS_AHEAD) {
+						int first = (int) (submitted % blocksPerCol) * BLOCK_SIZE;
+						int count = Math.min(numSets, first + BLOCK_SIZE) - first;
+						int size = sizes[(int) (submitted / blocksPerCol)];
+						long blockSeed = mix(seed + submitted);
+						pending.add(executor.submit(() -> generateBlock(count, size, range, blockSeed)));
+						submitted++;
+					}
+					out.write(pending.remove().get());
+				}
+				// empty line terminates collection
+				out.write('\n');
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while generating sets", e);
+		} catch (ExecutionException e) {
+			throw new IOException("Failed to generate sets", e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Generate the lines of a block of distinct sets of equal size
+	 *
+	 * @param count An {@code int} defining the number of sets of the block
+	 * @param size  An {@code int} defining the number of elements of each set
+	 * @param range An {@code int} value defining the upper limit of the randomly
+	 *              drawn values
+	 * @param seed  A {@code long} value used for the generation of random values
+	 * @return A {@code byte[]} containing a line for each set
+	 */
+	static byte[] generateBlock(int count, int size, int range, long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+		ByteArrayOutputStream lines = new ByteArrayOutputStream(count * Math.min(size, 64) * 4);
+		// sets of the block, compared by their content
+		HashSet<IntBuffer> drawnSets = new HashSet<IntBuffer>(2 * count);
+		byte[] digits = new byte[11];
+		while (drawnSets.size() < count) {
+			// draw distinct elements in ascending order
+			int[] elements = new int[size];
+			int drawn = 0;
+			while (drawn < size) {
+				while (drawn < size) {
+					elements[drawn++] = random.nextInt(range);
+				}
+				Arrays.sort(elements, 0, drawn);
+				int distinct = 1;
+				for (int i = 1; i < drawn; i++) {
+					if (elements[i] != elements[distinct - 1]) {
+						elements[distinct++] = elements[i];
+					}
+				}
+				drawn = distinct;
+			}
+			// skip duplicates
+			if (drawnSets.add(IntBuffer.wrap(elements))) {
+				for (int e : elements) {
+					writeElement(lines, e, digits);
+				}
+				lines.write('\n');
+			}
+		}
+		return lines.toByteArray();
+	}
+
+	/**
+	 * Get the smallest size of the sets of a collection
+	 *
+	 * @param maxSize An {@code int} defining the greatest size
+	 * @return An {@code int}
+	 */
+	static int minSize(int maxSize) {
+		return (maxSize + 1) / 2;
+	}
+
+	/**
+	 * Compute the number of subsets of a given size, limited to
+	 * {@code Long.MAX_VALUE}
+	 *
+	 * @param n An {@code int} defining the number of elements
+	 * @param k An {@code int} defining the size of the subsets
+	 * @return A {@code double}
+	 */
+	static double binomial(int n, int k) {
+		double result = 1;
+		for (int i = 0; i < Math.min(k, n - k) && result < Long.MAX_VALUE; i++) {
+			result = result * (n - i) / (i + 1);
+		}
+		return result;
+	}
+
+	/**
+	 * Write a non-negative element followed by a space
+	 *
+	 * @param out    A {@link ByteArrayOutputStream}
+	 * @param value  A non-negative {@code int}
+	 * @param digits A {@code byte[]} of length 11 used as buffer
+	 */
+	private static void writeElement(ByteArrayOutputStream out, int value, byte[] digits) {
+		int pos = digits.length;
+		digits[--pos] = ' ';
+		do {
+			digits[--pos] = (byte) ('0' + value % 10);
+			value /= 10;
+		} while (value > 0);
+		out.write(digits, pos, digits.length - pos);
+	}
+
+	/**
+	 * Scramble a value to derive independent seeds from consecutive values
+	 * (finalizer of SplitMix64)
+	 *
+	 * @param z A {@code long}
+	 * @return A {@code long}
+	 */
+	static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 4) {
+			System.out.println(
+					"usage: RandomSetsGenerator <file> <numCols> <numSets> <maxSize> [seed] [threads]");
+			return;
+		}
+		int numCols = Integer.parseInt(args[1]);
+		int numSets = Integer.parseInt(args[2]);
+		int maxSize = Integer.parseInt(args[3]);
+		// same range as for the existing random test files
+		int range = Math.max(numSets, maxSize) * 3;
+		long seed = args.length > 4 ? Long.parseLong(args[4]) : DataProvider.SEED;
+		int threads = args.length > 5 ? Integer.parseInt(args[5]) : Runtime.getRuntime().availableProcessors();
+
+		long start = System.nanoTime();
+		generate(Paths.get(args[0]), numCols, numSets, maxSize, range, seed, threads);
+		System.out.println("generated " + (long) numCols * numSets + " sets in "
+				+ (System.nanoTime() - start) / 1000000 + " ms");
+	}
+
+}
@@ -0,0 +1,464 @@
+package com.autoreason.setmincheck;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * An immutable set of {@code int} values stored as compressed bitmap, where
+ * the values are grouped by their upper 16 bits and the lower 16 bits of each
+ * group are kept in the smallest of three kinds of containers: a sorted array,
+ * a bitmap of 2^16 bits or a list of runs of consecutive values
+ *
+ * <p>
+ * In contrast to the bit vectors of fixed length used by the
+ * {@code set-minimality-checking} project, no values are folded together, so
+ * that subset tests are exact, and the size only depends on the values
+ * actually contained in the set.
+ * </p>
+ *
+ */
+public class RoaringSet {
+
+	/**
+	 * the maximum number of values in an array container
+	 */
+	final static int ARRAY_MAX = 4096;
+
+	/**
+	 * the size of a bitmap container in bytes
+	 */
+	final static int BITMAP_BYTES = 8192;
+
+	/**
+	 * the upper 16 bits of the values of each container in ascending order
+	 */
+	final char[] keys;
+
+	/**
+	 * the containers for the lower 16 bits of the values
+	 */
+	final Container[] containers;
+
+	/**
+	 * the number of values in the set
+	 */
+	final int cardinality;
+
+	/**
+	 * Construct a {@link RoaringSet} containing the given values
+	 *
+	 * @param set A {@link Collection} of {@link Integer} values
+	 */
+	public RoaringSet(Collection<Integer> set) {
+		this(set.stream().mapToInt(Integer::intValue).toArray());
+	}
+
+	/**
+	 * Construct a {@link RoaringSet} containing the given values
+	 *
+	 * @param values An {@code int[]} in any order, possibly with duplicates,
+	 *               which is not changed
+	 */
+	public RoaringSet(int[] values) {
+		// sort values as unsigned integers
+		int[] sorted = new int[values.length];
+		for (int i = 0; i < values.length; i++) {
+			sorted[i] = values[i] ^ Integer.MIN_VALUE;
+		}
+		Arrays.sort(sorted);
+		int n = 0;
+		for (int i = 0; i < sorted.length; i++) {
+			if (n == 0 || sorted[i] != sorted[n - 1]) {
+				sorted[n++] = sorted[i];
+			}
+		}
+		for (int i = 0; i < n; i++) {
+			sorted[i] ^= Integer.MIN_VALUE;
+		}
+		this.cardinality = n;
+
+		// count containers
+		int count = 0;
+		for (int i = 0; i < n; i++) {
+			if (i == 0 || sorted[i] >>> 16 != sorted[i - 1] >>> 16) {
+				count++;
+			}
+		}
+		this.keys = new char[count];
+		this.containers = new Container[count];
+		// create container for each group of values with same upper bits
+		int c = 0;
+		for (int from = 0; from < n; c++) {
+			int to = from + 1;
+			while (to < n && sorted[to] >>> 16 == sorted[from] >>> 16) {
+				to++;
+			}
+			keys[c] = (char) (sorted[from] >>> 16);
+			containers[c] = Container.of(sorted, from, to);
+			from = to;
+		}
+	}
+
+	/**
+	 * Get the number of values in the set
+	 *
+	 * @return An {@code int}
+	 */
+	public int cardinality() {
+		return cardinality;
+	}
+
+	/**
+	 * Check if the set contains a value
+	 *
+	 * @param value An {@code int}
+	 * @return {@code true} if the set contains {@code value}
+	 */
+	public boolean contains(int value) {
+		int i = Arrays.binarySearch(keys, (char) (value >>> 16));
+		return i >= 0 && containers[i].contains((char) value);
+	}
+
+	/**
+	 * Check if all values of this set are contained in another set
+	 *
+	 * @param other A {@link RoaringSet}
+	 * @return {@code true} if this set is a subset of {@code other}
+	 */
+	public boolean isSubsetOf(RoaringSet other) {
+		if (cardinality > other.cardinality || keys.length > other.keys.length) {
+			return false;
+		}
+		int j = 0;
+		for (int i = 0; i < keys.length; i++) {
+			// find container with same key in other set
+			while (j < other.keys.length && other.keys[j] < keys[i]) {
+				j++;
+			}
+			if (j == other.keys.length || other.keys[j] != keys[i]
+					|| !containers[i].isSubsetOf(other.containers[j])) {
+				return false;
+			}
+			j++;
+		}
+		return true;
+	}
+
+	/**
+	 * Get the number of bytes needed for the containers and keys of the set,
+	 * without the headers of the Java objects
+	 *
+	 * @return A {@code long}
+	 */
+	public long sizeInBytes() {
+		long size = 2L * keys.length;
+		for (Container container : containers) {
+			size += container.sizeInBytes();
+		}
+		return size;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof RoaringSet)) {
+			return false;
+		}
+		RoaringSet other = (RoaringSet) obj;
+		// equal cardinality and subset relation imply equality
+		return cardinality == other.cardinality && isSubsetOf(other);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Arrays.hashCode(keys) + cardinality;
+	}
+
+	/**
+	 * A container for the lower 16 bits of the values with the same upper bits
+	 */
+	static abstract class Container {
+
+		/**
+		 * Create the smallest container for a group of values
+		 *
+		 * @param values An {@code int[]} with distinct values in ascending order
+		 * @param from   An {@code int} defining the index of the first value of the
+		 *               group
+		 * @param to     An {@code int} defining the index after the last value of
+		 *               the group
+		 * @return A {@link Container}
+		 */
+		static Container of(int[] values, int from, int to) {
+			int n = to - from;
+			int runs = 1;
+			for (int i = from + 1; i < to; i++) {
+				if (values[i] != values[i - 1] + 1) {
+					runs++;
+				}
+			}
+			// each run needs two chars
+			if (4 * runs < Math.min(2 * n, BITMAP_BYTES)) {
+				char[] bounds = new char[2 * runs];
+				int r = 0;
+				bounds[0] = (char) values[from];
+				for (int i = from + 1; i < to; i++) {
+					if (values[i] != values[i - 1] + 1) {
+						bounds[r + 1] = (char) values[i - 1];
+						r += 2;
+						bounds[r] = (char) values[i];
+					}
+				}
+				bounds[r + 1] = (char) values[to - 1];
+				return new RunContainer(bounds, n);
+			}
+			if (n <= ARRAY_MAX) {
+				char[] array = new char[n];
+				for (int i = 0; i < n; i++) {
+					array[i] = (char) values[from + i];
+				}
+				return new ArrayContainer(array);
+			}
+			long[] words = new long[BITMAP_BYTES / 8];
+			for (int i = from; i < to; i++) {
+				char v = (char) values[i];
+				words[v >>> 6] |= 1L << v;
+			}
+			return new BitmapContainer(words, n);
+		}
+
+		/**
+		 * @return An {@code int} defining the number of values in the container
+		 */
+		abstract int cardinality();
+
+		/**
+		 * @param value A {@code char} with the lower bits of a value
+		 * @return {@code true} if the container contains {@code value}
+		 */
+		abstract boolean contains(char value);
+
+		/**
+		 * @param other A {@link Container}
+		 * @return {@code true} if all values of this container are contained in
+		 *         {@code other}
+		 */
+		abstract boolean isSubsetOf(Container other);
+
+		/**
+		 * @return An {@code int} defining the size of the container data in bytes
+		 */
+		abstract int sizeInBytes();
+
+	}
+
+	/**
+	 * A container storing its values in a sorted array
+	 */
+	static final class ArrayContainer extends Container {
+
+		final char[] values;
+
+		ArrayContainer(char[] values) {
+			this.values = values;
+		}
+
+		@Override
+		int cardinality() {
+			return values.length;
+		}
+
+		@Override
+		boolean contains(char value) {
+			return Arrays.binarySearch(values, value) >= 0;
+		}
+
+		@Override
+		boolean isSubsetOf(Container other) {
+			if (values.length > other.cardinality()) {
+				return false;
+			}
+			if (other instanceof ArrayContainer) {
+				// merge both sorted arrays
+				char[] others = ((ArrayContainer) other).values;
+				int j = 0;
+				for (char v : values) {
+					while (j < others.length && others[j] < v) {
+						j++;
+					}
+					if (j == others.length || others[j] != v) {
+						return false;
+					}
+					j++;
+				}
+				return true;
+			}
+			for (char v : values) {
+				if (!other.contains(v)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		int sizeInBytes() {
+			return 2 * values.length;
+		}
+
+	}
+
+	/**
+	 * A container storing its values as bits of 1024 {@code long} words
+	 */
+	static final class BitmapContainer extends Container {
+
+		final long[] words;
+
+		final int cardinality;
+
+		BitmapContainer(long[] words, int cardinality) {
+			this.words = words;
+			this.cardinality = cardinality;
+		}
+
+		@Override
+		int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		boolean contains(char value) {
+			return (words[value >>> 6] & (1L << value)) != 0;
+		}
+
+		@Override
+		boolean isSubsetOf(Container other) {
+			if (cardinality > other.cardinality()) {
+				return false;
+			}
+			if (other instanceof BitmapContainer) {
+				long[] others = ((BitmapContainer) other).words;
+				for (int i = 0; i < words.length; i++) {
+					if ((words[i] & ~others[i]) != 0) {
+						return false;
+					}
+				}
+				return true;
+			}
+			// check each set bit
+			for (int i = 0; i < words.length; i++) {
+				for (long word = words[i]; word != 0; word &= word - 1) {
+					if (!other.contains((char) (i << 6 | Long.numberOfTrailingZeros(word)))) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+
+		@Override
+		int sizeInBytes() {
+			return BITMAP_BYTES;
+		}
+
+	}
+
+	/**
+	 * A container storing its values as runs given by their first and last value
+	 */
+	static final class RunContainer extends Container {
+
+		/**
+		 * the first and last value of each run in ascending order
+		 */
+		final char[] bounds;
+
+		final int cardinality;
+
+		RunContainer(char[] bounds, int cardinality) {
+			this.bounds = bounds;
+			this.cardinality = cardinality;
+		}
+
+		@Override
+		int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		boolean contains(char value) {
+			// binary search for last run starting at or before value
+			int low = 0;
+			int high = bounds.length / 2 - 1;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				if (bounds[2 * mid] <= value) {
+					low = mid + 1;
+				} else {
+					high = mid - 1;
+				}
+			}
+			return high >= 0 && value <= bounds[2 * high + 1];
+		}
+
+		@Override
+		boolean isSubsetOf(Container other) {
+			if (cardinality > other.cardinality()) {
+				return false;
+			}
+			if (other instanceof RunContainer) {
+				// each run must lie within a run of the other container
+				char[] others = ((RunContainer) other).bounds;
+				int j = 0;
+				for (int i = 0; i < bounds.length; i += 2) {
+					while (j < others.length && others[j + 1] < bounds[i]) {
+						j += 2;
+					}
+					if (j == others.length || others[j] > bounds[i] || others[j + 1] < bounds[i + 1]) {
+						return false;
+					}
+				}
+				return true;
+			}
+			if (other instanceof BitmapContainer) {
+				long[] words = ((BitmapContainer) other).words;
+				for (int i = 0; i < bounds.length; i += 2) {
+					int first = bounds[i];
+					int last = bounds[i + 1];
+					// compare whole words covered by run with masks
+					for (int w = first >>> 6; w <= last >>> 6; w++) {
+						long mask = -1L;
+						if (w == first >>> 6) {
+							mask &= -1L << first;
+						}
+						if (w == last >>> 6) {
+							mask &= -1L >>> (63 - (last & 63));
+						}
+						if ((words[w] & mask) != mask) {
+							return false;
+						}
+					}
+				}
+				return true;
+			}
+			for (int i = 0; i < bounds.length; i += 2) {
+				for (int v = bounds[i]; v <= bounds[i + 1]; v++) {
+					if (!other.contains((char) v)) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+
+		@Override
+		int sizeInBytes() {
+			return 2 * bounds.length;
+		}
+
+	}
+
+}
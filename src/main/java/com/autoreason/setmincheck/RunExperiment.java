@@ -4,49 +4,77 @@ import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.NavigableSet;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
 
-import org.liveontologies.puli.collections.BloomTrieCollection2;
-
-import com.autoreason.setmincheck.setobjects.ExpBitVectorSet;
-import com.autoreason.setmincheck.setobjects.ExpBoolVectorSet;
-import com.autoreason.setmincheck.setobjects.ExpBoolVectorSet2;
-import com.autoreason.setmincheck.setobjects.ExpSetRepresent;
-import com.autoreason.setmincheck.setobjects.SetRepresent;
+import com.autoreason.setfileconverter.FileSetConverter;
+import com.autoreason.setmincheck.expindex.CostModel;
+import com.autoreason.setmincheck.expindex.ExpIndex;
+import com.autoreason.setmincheck.expindex.ExpIndexType;
 
 public class RunExperiment {
 
 	final static String RESULT_FILE = "results.csv";
+	final static String THROUGHPUT_FILE = "throughput.csv";
+	final static String STARTUP_FILE = "startup.csv";
+	final static String CONSTRUCTION_FILE = "construction.csv";
+	final static String CONCURRENT_FILE = "concurrent.csv";
+	final static long CONCURRENT_DURATION_MILLIS = 1000;
+	final static String PARALLEL_FILE = "parallel.csv";
+	final static String BATCH_FILE = "batch.csv";
+	final static String PRUNING_FILE = "pruning.csv";
+	final static String PARSE_FILE = "parse.csv";
+	final static String BINARY_FILE = "binary.csv";
+	final static String BINARY_FOLDER = "binary";
+	final static String THROUGHPUT_HEADER = "test-file,index,build-time,memory,query-latency,queries-per-second,break-even,removal-time,removal";
+	final static String WORKLOAD_FILE = "workload.csv";
+	final static String METRICS_FILE = "metrics.csv";
+	final static String CALIBRATION_FILE = "calibration.csv";
+	final static String HOLDOUT_FILE = "calibration-holdout.csv";
+	final static String COST_MODEL_FILE = "costModel.csv";
+	final static int CALIBRATION_SAMPLES = 30;
+	final static int CALIBRATION_QUERIES = 200;
+	final static long CALIBRATION_NANOS = 10000000;
+	final static int WORKLOAD_SIZE = Integer.getInteger("experiment.workloadSize", 2000);
+	final static String WORKLOAD_PROPORTIONS = System.getProperty("experiment.workload", "1,1,1,1");
+	final static String[] PRUNING_TEST_FILES = { "academic-1x1001x999.txt", "fiction-1x1000x1000.txt" };
 	final static int EXPERIMENT_REPETITIONS = 20;
 	final static int MEASUREMENT_REPETITIONS = 5;
 
-	@SuppressWarnings("unchecked")
-	public static <E extends ExpSetRepresent<S, R>, S extends SetRepresent<R> & Comparable<S>, R> void main(
-			String[] args) {
-
-		// list of objects realizing different set representations
-		ArrayList<E> setRepList = new ArrayList<E>();
-		setRepList.add((E) new ExpBitVectorSet());
-		setRepList.add((E) new ExpBoolVectorSet());
-		setRepList.add((E) new ExpBoolVectorSet2());
-
-		// array with names of executed classes
-		String[] testedClasses = new String[setRepList.size() + 3];
-		testedClasses[0] = "Simple";
-		testedClasses[testedClasses.length - 2] = "BloomTrie";
-		testedClasses[testedClasses.length - 1] = "UBTree";
-		for (int i = 1; i <= setRepList.size(); i++) {
-			testedClasses[i] = setRepList.get(i - 1).getClass().getSimpleName().substring(3);
-		}
+	public static void main(String[] args) {
+		// mode selected by first argument, experiment with all index types otherwise
+		ExperimentMode.forArguments(args).run(args);
+	}
+
+	/**
+	 * Measure the minimality check of all index types for each test file and
+	 * write the average times (in nanoseconds) to {@code RESULT_FILE} and the
+	 * construction and throughput results to {@code THROUGHPUT_FILE}
+	 */
+	static void compareIndexes() {
+		// types of tested indexes
+		ExpIndexType[] indexTypes = ExpIndexType.values();
 
-		DataProvider dataProvider;
 		long[] measuredTimes;
 		BufferedWriter buffWriter;
+		BufferedWriter throughputWriter;
 
 		try {
 			// prepare file for results
@@ -57,16 +85,19 @@ public class RunExperiment {
 
 			// write used classes to file as names for columns
 			String line = "test-file";
-			for (int i = 0; i < testedClasses.length; i++) {
-				line = line + "," + testedClasses[i];
+			for (int i = 0; i < indexTypes.length; i++) {
+				line = line + "," + indexTypes[i].getName();
 			}
 			buffWriter.write(line);
 			buffWriter.newLine();
 
+			// create writer for construction and throughput results
+			throughputWriter = new BufferedWriter(new FileWriter(THROUGHPUT_FILE));
+			throughputWriter.write(THROUGHPUT_HEADER);
+			throughputWriter.newLine();
+
 			// list all test files
-			BufferedReader nameReader = new BufferedReader(
-					new InputStreamReader(RunExperiment.class.getResourceAsStream("/fileNames.txt")));
-			String[] fileNames = nameReader.lines().toArray(String[]::new);
+			String[] fileNames = readFileNames();
 
 			// conduct performance measurement for each test file
 			for (int i = 0; i < fileNames.length; i++) {
@@ -74,27 +105,12 @@ public class RunExperiment {
 				// show current experiment progress
 				System.out.println("running: " + (i + 1) + "/" + fileNames.length);
 
-				// create DataProvider for data given in test file
-				dataProvider = new DataProvider("/files/" + fileName);
+				// perform experiment
+				long[] buildTimes = new long[indexTypes.length];
+				long[] footprints = new long[indexTypes.length];
+				long[] removalTimes = new long[indexTypes.length];
+				measuredTimes = measureMinCheckTimes(fileName, indexTypes, buildTimes, footprints, removalTimes);
 
-				// initialize arrays for measured times
-				measuredTimes = new long[testedClasses.length];
-				long[] currentTimes = new long[measuredTimes.length];
-				// repeat computation with different test sets
-				for (int k = 0; k < EXPERIMENT_REPETITIONS; k++) {
-					// perform experiment
-					currentTimes = getTimeForMinCheck(setRepList, dataProvider, MEASUREMENT_REPETITIONS);
-					// update times
-					for (int j = 0; j < currentTimes.length; j++) {
-						measuredTimes[j] += currentTimes[j];
-					}
-					// get new test set
-					dataProvider.getNewTestSet();
-				}
-				// compute average of measured times
-				for (int j = 0; j < measuredTimes.length; j++) {
-					measuredTimes[j] /= EXPERIMENT_REPETITIONS;
-				}
 				// create String containing file name and results
 				line = fileName.substring(0, fileName.indexOf("."));
 				for (int k = 0; k < measuredTimes.length; k++) {
@@ -103,10 +119,936 @@ public class RunExperiment {
 				// write results to file
 				buffWriter.write(line);
 				buffWriter.newLine();
+
+				// write construction and throughput results for each index type
+				writeThroughput(throughputWriter, fileName.substring(0, fileName.indexOf(".")), indexTypes, buildTimes,
+						footprints, measuredTimes, removalTimes);
 			}
 
-			nameReader.close();
 			buffWriter.close();
+			throughputWriter.close();
+
+			// experiment finished
+			System.out.println("done");
+
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Perform the experiment for a single test file and index type and print the
+	 * build time, query latency, memory and removal time as a line of
+	 * comma-separated values, which is read by {@link ParallelExperimentRunner}
+	 * 
+	 * @param fileName  A {@link String} with the name of a test file
+	 * @param indexType An {@link ExpIndexType}
+	 */
+	static void performJob(String fileName, ExpIndexType indexType) {
+		long[] buildTimes = new long[1];
+		long[] footprints = new long[1];
+		long[] removalTimes = new long[1];
+		long[] times = measureMinCheckTimes(fileName, new ExpIndexType[] { indexType }, buildTimes, footprints,
+				removalTimes);
+		System.out.println(buildTimes[0] + "," + times[0] + "," + footprints[0] + "," + removalTimes[0]);
+	}
+
+	/**
+	 * Measure the average time needed by indexes of the given types for checking
+	 * the minimality of {@code EXPERIMENT_REPETITIONS} test sets w.r.t. the
+	 * collections of a test file
+	 * 
+	 * @param fileName   A {@link String} with the name of a test file
+	 * @param indexTypes An array of {@link ExpIndexType} values
+	 * @param buildTimes A {@code long[]} of the same length as {@code indexTypes}
+	 *                   in which the time (in nanoseconds) needed to create the
+	 *                   indexes of each type is stored
+	 * @param footprints   A {@code long[]} of the same length as {@code indexTypes}
+	 *                     in which the heap memory (in bytes) retained by the
+	 *                     indexes of each type is stored
+	 * @param removalTimes A {@code long[]} of the same length as
+	 *                     {@code indexTypes} in which the average time (in
+	 *                     nanoseconds) needed to update the index of each type
+	 *                     after a test set has been removed is stored
+	 * @return A {@code long[]} containing the average time (in nanoseconds) for
+	 *         each index type
+	 */
+	static long[] measureMinCheckTimes(String fileName, ExpIndexType[] indexTypes, long[] buildTimes,
+			long[] footprints, long[] removalTimes) {
+		// create DataProvider for data given in test file
+		DataProvider dataProvider = new DataProvider("/files/" + fileName);
+
+		// index the collections once for all repetitions
+		ArrayList<ArrayList<ExpIndex>> indexLists = createIndexes(indexTypes, dataProvider, buildTimes, footprints);
+
+		// initialize arrays for measured times
+		long[] measuredTimes = new long[indexTypes.length];
+		long[] currentTimes = new long[measuredTimes.length];
+		// number of test sets removed from the indexes
+		int removals = 0;
+		// repeat computation with different test sets
+		for (int k = 0; k < EXPERIMENT_REPETITIONS; k++) {
+			// perform experiment
+			currentTimes = getTimeForMinCheck(indexLists, dataProvider, MEASUREMENT_REPETITIONS);
+			// update times
+			for (int j = 0; j < currentTimes.length; j++) {
+				measuredTimes[j] += currentTimes[j];
+			}
+			// get new test set
+			dataProvider.getNewTestSet();
+			// update indexes of collection from which the test set has been removed
+			if (dataProvider.isTestSetRemoved()) {
+				for (int j = 0; j < indexLists.size(); j++) {
+					long start = System.nanoTime();
+					indexLists.get(j).get(dataProvider.testSetCollection).remove(dataProvider.testSet);
+					removalTimes[j] += System.nanoTime() - start;
+				}
+				removals++;
+			}
+		}
+		// compute average of measured times
+		for (int j = 0; j < measuredTimes.length; j++) {
+			measuredTimes[j] /= EXPERIMENT_REPETITIONS;
+			removalTimes[j] /= Math.max(1, removals);
+		}
+		return measuredTimes;
+	}
+
+	/**
+	 * Write the construction and throughput results of a test file to
+	 * {@code THROUGHPUT_FILE}
+	 * 
+	 * @param writer        A {@link BufferedWriter} for {@code THROUGHPUT_FILE}
+	 * @param testName      A {@link String} with the name of the test case
+	 * @param indexTypes    An array of {@link ExpIndexType} values
+	 * @param buildTimes    A {@code long[]} with the construction time of each
+	 *                      index type
+	 * @param footprints    A {@code long[]} with the heap memory retained by the
+	 *                      indexes of each type
+	 * @param measuredTimes A {@code long[]} with the query latency of each index
+	 *                      type, or a negative value if the measurement of the
+	 *                      type failed, whose results are written as {@code NA}
+	 * @param removalTimes  A {@code long[]} with the time needed by each index
+	 *                      type to remove a set, which is reported together with
+	 *                      whether the type rebuilds the index or updates it
+	 *                      incrementally
+	 * @throws IOException if the results cannot be written
+	 */
+	static void writeThroughput(BufferedWriter writer, String testName, ExpIndexType[] indexTypes, long[] buildTimes,
+			long[] footprints, long[] measuredTimes, long[] removalTimes) throws IOException {
+		int simple = Arrays.asList(indexTypes).indexOf(ExpIndexType.SIMPLE);
+		for (int k = 0; k < indexTypes.length; k++) {
+			String removal = indexTypes[k].isRebuiltOnRemoval() ? "rebuild" : "incremental";
+			if (measuredTimes[k] < 0) {
+				writer.write(testName + "," + indexTypes[k].getName() + ",NA,NA,NA,NA,NA,NA," + removal);
+			} else {
+				writer.write(testName + "," + indexTypes[k].getName() + "," + buildTimes[k] + "," + footprints[k]
+						+ "," + measuredTimes[k] + "," + 1000000000.0 / Math.max(1, measuredTimes[k]) + ","
+						+ (simple < 0 || measuredTimes[simple] < 0 ? "NA"
+								: breakEven(buildTimes[k], measuredTimes[k], buildTimes[simple],
+										measuredTimes[simple]))
+						+ "," + removalTimes[k] + "," + removal);
+			}
+			writer.newLine();
+		}
+	}
+
+	/**
+	 * Read the names of all test files from {@code fileNames.txt}
+	 * 
+	 * @return A {@link String} array with the file names
+	 * @throws IOException if the file names cannot be read
+	 */
+	static String[] readFileNames() throws IOException {
+		try (BufferedReader nameReader = new BufferedReader(
+				new InputStreamReader(RunExperiment.class.getResourceAsStream("/fileNames.txt")))) {
+			return nameReader.lines().toArray(String[]::new);
+		}
+	}
+
+	/**
+	 * Compare the time needed to build the {@link UBTree} objects for each test
+	 * file from text with the time needed to map their snapshots, each including
+	 * a first minimality check of the test set against every tree (which pages in
+	 * the accessed parts of the mapped snapshots), and write the results (in
+	 * nanoseconds) to {@code STARTUP_FILE}
+	 * 
+	 * @see UBTreeSnapshot
+	 */
+	static void measureStartupTimes() {
+		try (BufferedWriter buffWriter = new BufferedWriter(new FileWriter(STARTUP_FILE))) {
+			buffWriter.write("test-file,build-from-text,map-from-snapshot");
+			buffWriter.newLine();
+
+			Path snapshotDir = Files.createTempDirectory("snapshots");
+			// mapped files cannot be deleted on every platform while they are mapped
+			snapshotDir.toFile().deleteOnExit();
+			String[] fileNames = readFileNames();
+			for (int i = 0; i < fileNames.length; i++) {
+				String fileName = fileNames[i];
+				// show current experiment progress
+				System.out.println("running: " + (i + 1) + "/" + fileNames.length);
+
+				// draw test set before the measurement
+				Set<Integer> testSet = new DataProvider("/files/" + fileName).getTestSet();
+				int[] sortedTestSet = IntUBTree.toSortedArray(testSet);
+
+				// read collections, build a UBTree for each and check the test set
+				long start = System.nanoTime();
+				ArrayList<Collection<Set<Integer>>> cols = FileSetConverter.readCollectionsFromFile("/files/" + fileName);
+				ArrayList<UBTree<Integer>> ubTreeList = new ArrayList<UBTree<Integer>>();
+				for (Collection<Set<Integer>> col : cols) {
+					ubTreeList.add(new UBTree<Integer>(col));
+				}
+				boolean builtMinimal = true;
+				for (UBTree<Integer> ubTree : ubTreeList) {
+					builtMinimal &= ubTree.checkMinimal(testSet);
+				}
+				long buildTime = System.nanoTime() - start;
+
+				// create snapshots
+				ArrayList<Path> snapshots = new ArrayList<Path>();
+				for (int k = 0; k < ubTreeList.size(); k++) {
+					Path snapshot = snapshotDir.resolve(fileName + "-" + k + ".ubt");
+					UBTreeSnapshot.write(ubTreeList.get(k), snapshot);
+					snapshot.toFile().deleteOnExit();
+					snapshots.add(snapshot);
+				}
+				ubTreeList = null;
+
+				// map snapshots and check the test set
+				start = System.nanoTime();
+				ArrayList<MappedUBTree> mappedList = new ArrayList<MappedUBTree>();
+				for (Path snapshot : snapshots) {
+					mappedList.add(UBTreeSnapshot.open(snapshot));
+				}
+				boolean mappedMinimal = true;
+				for (MappedUBTree mapped : mappedList) {
+					mappedMinimal &= mapped.checkMinimal(sortedTestSet);
+				}
+				long mapTime = System.nanoTime() - start;
+
+				if (builtMinimal != mappedMinimal) {
+					System.err.println("different results for " + fileName);
+				}
+				buffWriter.write(fileName.substring(0, fileName.indexOf(".")) + "," + buildTime + "," + mapTime);
+				buffWriter.newLine();
+			}
+
+			// experiment finished
+			System.out.println("done");
+
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Compare the time needed to build the {@link UBTree} objects for each test
+	 * file by inserting the sets one by one with the time needed by the bulk
+	 * loading constructor {@link UBTree#UBTree(Collection)}, and write the results
+	 * (in nanoseconds) to {@code CONSTRUCTION_FILE}
+	 * 
+	 * @param repeat An {@code int} defining how often the construction is repeated
+	 *               to allow more accurate time measurements
+	 */
+	static void measureConstructionTimes(int repeat) {
+		try (BufferedWriter buffWriter = new BufferedWriter(new FileWriter(CONSTRUCTION_FILE))) {
+			buffWriter.write("test-file,insert,bulk-load");
+			buffWriter.newLine();
+
+			String[] fileNames = readFileNames();
+			for (int i = 0; i < fileNames.length; i++) {
+				String fileName = fileNames[i];
+				// show current experiment progress
+				System.out.println("running: " + (i + 1) + "/" + fileNames.length);
+
+				ArrayList<Collection<Set<Integer>>> cols = FileSetConverter.readCollectionsFromFile("/files/" + fileName);
+				long insertTime = 0;
+				long bulkTime = 0;
+				for (int j = 0; j < repeat; j++) {
+					// insert sets one by one
+					long start = System.nanoTime();
+					for (Collection<Set<Integer>> col : cols) {
+						UBTree<Integer> tree = new UBTree<Integer>();
+						for (Set<Integer> set : col) {
+							tree.insert(set);
+						}
+					}
+					insertTime += System.nanoTime() - start;
+
+					// load all sets at once
+					start = System.nanoTime();
+					for (Collection<Set<Integer>> col : cols) {
+						new UBTree<Integer>(col);
+					}
+					bulkTime += System.nanoTime() - start;
+				}
+
+				buffWriter.write(fileName.substring(0, fileName.indexOf(".")) + "," + insertTime / repeat + ","
+						+ bulkTime / repeat);
+				buffWriter.newLine();
+			}
+
+			// experiment finished
+			System.out.println("done");
+
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Measure the throughput of a {@link ConcurrentUBTree} that is shared by
+	 * threads checking minimality (readers) and threads inserting sets (writers)
+	 * for different ratios of readers and writers, and write the results (in
+	 * operations per second) to {@code CONCURRENT_FILE}
+	 * 
+	 * <p>
+	 * For each test file, the tree initially contains the first half of all sets,
+	 * the remaining sets are inserted by the writers, and the readers check
+	 * randomly drawn sets of the file
+	 * </p>
+	 * 
+	 * @param duration A {@code long} defining the time in milliseconds for which
+	 *                 each configuration is measured
+	 */
+	static void measureConcurrentThroughput(long duration) {
+		int threadNr = Math.max(2, Runtime.getRuntime().availableProcessors());
+		// numbers of writers to test
+		TreeSet<Integer> writerNumbers = new TreeSet<Integer>(Arrays.asList(0, 1, threadNr / 4, threadNr / 2));
+
+		try (BufferedWriter buffWriter = new BufferedWriter(new FileWriter(CONCURRENT_FILE))) {
+			buffWriter.write("test-file,readers,writers,reads-per-second,writes-per-second");
+			buffWriter.newLine();
+
+			String[] fileNames = readFileNames();
+			for (int i = 0; i < fileNames.length; i++) {
+				String fileName = fileNames[i];
+				// show current experiment progress
+				System.out.println("running: " + (i + 1) + "/" + fileNames.length);
+
+				// combine sets of all collections
+				ArrayList<Set<Integer>> sets = new ArrayList<Set<Integer>>();
+				for (Collection<Set<Integer>> col : FileSetConverter.readCollectionsFromFile("/files/" + fileName)) {
+					sets.addAll(col);
+				}
+				int half = sets.size() / 2;
+
+				for (int writers : writerNumbers) {
+					int readers = threadNr - writers;
+					ConcurrentUBTree<Integer> tree = new ConcurrentUBTree<Integer>(sets.subList(0, half));
+					// number of operations performed by each thread
+					long[] operations = new long[threadNr];
+					// start and end time of each thread, since writers may run out of sets
+					long[] startTimes = new long[threadNr];
+					long[] endTimes = new long[threadNr];
+					long deadline = System.nanoTime() + duration * 1000000;
+
+					Thread[] threads = new Thread[threadNr];
+					for (int t = 0; t < threadNr; t++) {
+						final int threadIndex = t;
+						if (t < writers) {
+							// insert every writers-th of the remaining sets
+							threads[t] = new Thread(() -> {
+								startTimes[threadIndex] = System.nanoTime();
+								long ops = 0;
+								for (int k = half + threadIndex; k < sets.size() && System.nanoTime() < deadline; k += writers) {
+									tree.insert(sets.get(k));
+									ops++;
+								}
+								operations[threadIndex] = ops;
+								endTimes[threadIndex] = System.nanoTime();
+							});
+						} else {
+							// check randomly drawn sets
+							threads[t] = new Thread(() -> {
+								startTimes[threadIndex] = System.nanoTime();
+								Random r = new Random(threadIndex);
+								long ops = 0;
+								while (System.nanoTime() < deadline) {
+									tree.checkMinimal(sets.get(r.nextInt(sets.size())));
+									ops++;
+								}
+								operations[threadIndex] = ops;
+								endTimes[threadIndex] = System.nanoTime();
+							});
+						}
+					}
+					for (Thread thread : threads) {
+						thread.start();
+					}
+					try {
+						for (Thread thread : threads) {
+							thread.join();
+						}
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						return;
+					}
+
+					// sum up operations and divide by the time in which each group was running
+					long reads = 0;
+					long writes = 0;
+					long readStart = Long.MAX_VALUE;
+					long readEnd = Long.MIN_VALUE;
+					long writeStart = Long.MAX_VALUE;
+					long writeEnd = Long.MIN_VALUE;
+					for (int t = 0; t < threadNr; t++) {
+						if (t < writers) {
+							writes += operations[t];
+							writeStart = Math.min(writeStart, startTimes[t]);
+							writeEnd = Math.max(writeEnd, endTimes[t]);
+						} else {
+							reads += operations[t];
+							readStart = Math.min(readStart, startTimes[t]);
+							readEnd = Math.max(readEnd, endTimes[t]);
+						}
+					}
+					buffWriter.write(fileName.substring(0, fileName.indexOf(".")) + "," + readers + "," + writers + ","
+							+ (readers == 0 ? 0 : reads * 1000000000 / Math.max(1, readEnd - readStart)) + ","
+							+ (writers == 0 ? 0 : writes * 1000000000 / Math.max(1, writeEnd - writeStart)));
+					buffWriter.newLine();
+				}
+			}
+
+			// experiment finished
+			System.out.println("done");
+
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Measure the time needed by {@link UBTree#checkMinimalParallel(Set, ForkJoinPool)}
+	 * for the test set of each test file with 1 to N worker threads (N being the
+	 * number of available processors), and write the results (in nanoseconds)
+	 * together with the speedup compared to a single worker thread to
+	 * {@code PARALLEL_FILE}
+	 * 
+	 * <p>
+	 * Note: Test sets with at most {@code UBTree.PARALLEL_THRESHOLD} elements are
+	 * checked sequentially, so that their speedup stays close to 1
+	 * </p>
+	 * 
+	 * @param repeat An {@code int} defining how often the check is repeated to
+	 *               allow more accurate time measurements
+	 */
+	static void measureParallelSpeedup(int repeat) {
+		int maxCores = Runtime.getRuntime().availableProcessors();
+
+		try (BufferedWriter buffWriter = new BufferedWriter(new FileWriter(PARALLEL_FILE))) {
+			buffWriter.write("test-file,test-set-size,cores,time,speedup");
+			buffWriter.newLine();
+
+			String[] fileNames = readFileNames();
+			for (int i = 0; i < fileNames.length; i++) {
+				String fileName = fileNames[i];
+				// show current experiment progress
+				System.out.println("running: " + (i + 1) + "/" + fileNames.length);
+
+				DataProvider dataProvider = new DataProvider("/files/" + fileName);
+				ArrayList<UBTree<Integer>> trees = new ArrayList<UBTree<Integer>>();
+				for (Collection<Set<Integer>> col : dataProvider.fileCollections) {
+					trees.add(new UBTree<Integer>(col));
+				}
+
+				long singleTime = 0;
+				for (int cores = 1; cores <= maxCores; cores++) {
+					ForkJoinPool pool = new ForkJoinPool(cores);
+					long time = 0;
+					for (int j = 0; j < repeat; j++) {
+						long start = System.nanoTime();
+						for (UBTree<Integer> tree : trees) {
+							tree.checkMinimalParallel(dataProvider.testSet, pool);
+						}
+						time += System.nanoTime() - start;
+					}
+					pool.shutdown();
+					time /= repeat;
+					if (cores == 1) {
+						singleTime = time;
+					}
+
+					buffWriter.write(fileName.substring(0, fileName.indexOf(".")) + ","
+							+ dataProvider.testSet.size() + "," + cores + "," + time + ","
+							+ (double) singleTime / Math.max(1, time));
+					buffWriter.newLine();
+				}
+			}
+
+			// experiment finished
+			System.out.println("done");
+
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Compare the time needed to check all sets of each test file for minimality
+	 * w.r.t. the {@link UBTree} of every collection one by one with the time
+	 * needed by {@link UBTree#checkMinimalBatch(List)}, and write the results (in
+	 * nanoseconds) to {@code BATCH_FILE}
+	 * 
+	 * @param repeat An {@code int} defining how often the checks are repeated to
+	 *               allow more accurate time measurements
+	 */
+	static void measureBatchTimes(int repeat) {
+		try (BufferedWriter buffWriter = new BufferedWriter(new FileWriter(BATCH_FILE))) {
+			buffWriter.write("test-file,single,batch");
+			buffWriter.newLine();
+
+			String[] fileNames = readFileNames();
+			for (int i = 0; i < fileNames.length; i++) {
+				String fileName = fileNames[i];
+				// show current experiment progress
+				System.out.println("running: " + (i + 1) + "/" + fileNames.length);
+
+				// all sets of the file serve as test sets
+				ArrayList<Collection<Set<Integer>>> cols = FileSetConverter.readCollectionsFromFile("/files/" + fileName);
+				ArrayList<Set<Integer>> testSets = new ArrayList<Set<Integer>>();
+				ArrayList<UBTree<Integer>> trees = new ArrayList<UBTree<Integer>>();
+				for (Collection<Set<Integer>> col : cols) {
+					testSets.addAll(col);
+					trees.add(new UBTree<Integer>(col));
+				}
+
+				long singleTime = 0;
+				long batchTime = 0;
+				for (int j = 0; j < repeat; j++) {
+					// check sets one by one
+					long start = System.nanoTime();
+					for (UBTree<Integer> tree : trees) {
+						for (Set<Integer> testSet : testSets) {
+							tree.checkMinimal(testSet);
+						}
+					}
+					singleTime += System.nanoTime() - start;
+
+					// check all sets at once
+					start = System.nanoTime();
+					for (UBTree<Integer> tree : trees) {
+						tree.checkMinimalBatch(testSets);
+					}
+					batchTime += System.nanoTime() - start;
+				}
+
+				buffWriter.write(fileName.substring(0, fileName.indexOf(".")) + "," + singleTime / repeat + ","
+						+ batchTime / repeat);
+				buffWriter.newLine();
+			}
+
+			// experiment finished
+			System.out.println("done");
+
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Compare loading each test file with
+	 * {@link FileSetConverter#readCollectionsFromFile(String)} to parsing it into a
+	 * {@link SetArena}, and write the average time (in nanoseconds), the peak heap
+	 * usage (in bytes) and the throughput (in megabytes per second) to
+	 * {@code PARSE_FILE}
+	 * 
+	 * @param repeat An {@code int} defining how often each file is loaded to allow
+	 *               more accurate time measurements
+	 */
+	static void measureParsing(int repeat) {
+		try (BufferedWriter buffWriter = new BufferedWriter(new FileWriter(PARSE_FILE))) {
+			buffWriter.write("test-file,loader,time,peak-heap,megabytes-per-second");
+			buffWriter.newLine();
+
+			String[] fileNames = readFileNames();
+			for (int i = 0; i < fileNames.length; i++) {
+				String fileName = fileNames[i];
+				// show current experiment progress
+				System.out.println("running: " + (i + 1) + "/" + fileNames.length);
+
+				String resource = "/files/" + fileName;
+				// determine size of file
+				long bytes;
+				try (InputStream in = RunExperiment.class.getResourceAsStream(resource)) {
+					if (in == null) {
+						throw new IOException("Resource not found: " + resource);
+					}
+					bytes = in.transferTo(OutputStream.nullOutputStream());
+				}
+
+				String testName = fileName.substring(0, fileName.indexOf("."));
+				long[] converter = measureLoader(() -> FileSetConverter.readCollectionsFromFile(resource), repeat);
+				long[] parser = measureLoader(() -> SetArena.readResource(resource), repeat);
+				buffWriter.write(testName + ",FileSetConverter," + converter[0] + "," + converter[1] + ","
+						+ bytes * 1000.0 / Math.max(1, converter[0]));
+				buffWriter.newLine();
+				buffWriter.write(testName + ",SetFileParser," + parser[0] + "," + parser[1] + ","
+						+ bytes * 1000.0 / Math.max(1, parser[0]));
+				buffWriter.newLine();
+			}
+
+			// experiment finished
+			System.out.println("done");
+
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Convert each test file into the binary format of {@link SetCollectionFile}
+	 * in the folder {@code BINARY_FOLDER}, and write the sizes of both files (in
+	 * bytes) together with the average time (in nanoseconds) for loading the text
+	 * file with {@link FileSetConverter}, loading the binary file with
+	 * {@link DataProvider#DataProvider(Path)} and reading the binary file into a
+	 * {@link SetArena} to {@code BINARY_FILE}
+	 * 
+	 * @param repeat An {@code int} defining how often each file is loaded to allow
+	 *               more accurate time measurements
+	 */
+	static void measureBinaryLoading(int repeat) {
+		try (BufferedWriter buffWriter = new BufferedWriter(new FileWriter(BINARY_FILE))) {
+			buffWriter.write("test-file,text-bytes,binary-bytes,text-load,binary-load,binary-arena-load");
+			buffWriter.newLine();
+
+			Path folder = Files.createDirectories(Path.of(BINARY_FOLDER));
+			String[] fileNames = readFileNames();
+			for (int i = 0; i < fileNames.length; i++) {
+				String fileName = fileNames[i];
+				// show current experiment progress
+				System.out.println("running: " + (i + 1) + "/" + fileNames.length);
+
+				String resource = "/files/" + fileName;
+				String testName = fileName.substring(0, fileName.indexOf("."));
+				Path binary = folder.resolve(testName + ".bin");
+				long textBytes;
+				try (InputStream in = RunExperiment.class.getResourceAsStream(resource)) {
+					if (in == null) {
+						throw new IOException("Resource not found: " + resource);
+					}
+					textBytes = in.transferTo(OutputStream.nullOutputStream());
+				}
+				try (InputStream in = RunExperiment.class.getResourceAsStream(resource)) {
+					SetCollectionFile.convert(in, binary);
+				}
+
+				long textTime = 0;
+				long binaryTime = 0;
+				long arenaTime = 0;
+				for (int j = 0; j < repeat; j++) {
+					long start = System.nanoTime();
+					FileSetConverter.readCollectionsFromFile(resource);
+					textTime += System.nanoTime() - start;
+
+					start = System.nanoTime();
+					new DataProvider(binary);
+					binaryTime += System.nanoTime() - start;
+
+					start = System.nanoTime();
+					SetCollectionFile.read(binary);
+					arenaTime += System.nanoTime() - start;
+				}
+
+				buffWriter.write(testName + "," + textBytes + "," + Files.size(binary) + "," + textTime / repeat + ","
+						+ binaryTime / repeat + "," + arenaTime / repeat);
+				buffWriter.newLine();
+			}
+
+			// experiment finished
+			System.out.println("done");
+
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Generate a {@link QueryWorkload} for each test file and write the average
+	 * time (in nanoseconds) needed by the index of each type for checking the
+	 * queries of each {@link QueryKind} against their collections, together with
+	 * the share of minimal queries, to {@code WORKLOAD_FILE}
+	 * 
+	 * @param size        An {@code int} defining the number of queries per test
+	 *                    file
+	 * @param proportions A {@code double[]} with a weight for each
+	 *                    {@link QueryKind}
+	 * @param repeat      An {@code int} defining how often the workload is checked
+	 *                    to allow more accurate time measurements
+	 */
+	static void measureWorkload(int size, double[] proportions, int repeat) {
+		try (BufferedWriter buffWriter = new BufferedWriter(new FileWriter(WORKLOAD_FILE))) {
+			buffWriter.write("test-file,index,query-kind,queries,minimal-ratio,query-latency");
+			buffWriter.newLine();
+
+			ExpIndexType[] indexTypes = ExpIndexType.values();
+			QueryKind[] kinds = QueryKind.values();
+			String[] fileNames = readFileNames();
+			for (int i = 0; i < fileNames.length; i++) {
+				String fileName = fileNames[i];
+				// show current experiment progress
+				System.out.println("running: " + (i + 1) + "/" + fileNames.length);
+
+				DataProvider dataProvider = new DataProvider("/files/" + fileName);
+				QueryWorkload workload = dataProvider.generateWorkload(size, proportions);
+				ArrayList<ArrayList<ExpIndex>> indexLists = createIndexes(indexTypes, dataProvider,
+						new long[indexTypes.length], null);
+
+				for (int k = 0; k < indexTypes.length; k++) {
+					ArrayList<ExpIndex> indexList = indexLists.get(k);
+					long[] times = new long[kinds.length];
+					int[] counts = new int[kinds.length];
+					int[] minimal = new int[kinds.length];
+					for (int j = 0; j < repeat; j++) {
+						for (QueryWorkload.Query query : workload.queries) {
+							long start = System.nanoTime();
+							boolean result = indexList.get(query.collection).checkMinimal(query.set);
+							times[query.kind.ordinal()] += System.nanoTime() - start;
+							if (result != query.minimal) {
+								System.err.println(indexTypes[k].getName() + " returned wrong result for "
+										+ query.kind + " query " + query.set);
+							}
+							if (j == 0) {
+								counts[query.kind.ordinal()]++;
+								if (query.minimal) {
+									minimal[query.kind.ordinal()]++;
+								}
+							}
+						}
+					}
+
+					// write results of each kind and of the whole workload
+					String testName = fileName.substring(0, fileName.indexOf("."));
+					long totalTime = 0;
+					int totalMinimal = 0;
+					for (int q = 0; q < kinds.length; q++) {
+						totalTime += times[q];
+						totalMinimal += minimal[q];
+						if (counts[q] > 0) {
+							buffWriter.write(testName + "," + indexTypes[k].getName() + "," + kinds[q] + ","
+									+ counts[q] + "," + (double) minimal[q] / counts[q] + ","
+									+ times[q] / ((long) counts[q] * repeat));
+							buffWriter.newLine();
+						}
+					}
+					int total = workload.queries.size();
+					buffWriter.write(testName + "," + indexTypes[k].getName() + ",ALL," + total + ","
+							+ (double) totalMinimal / Math.max(1, total) + ","
+							+ totalTime / Math.max(1, (long) total * repeat));
+					buffWriter.newLine();
+				}
+			}
+
+			// experiment finished
+			System.out.println("done");
+
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Check a {@link QueryWorkload} for each test file with the {@link UBTree} of
+	 * each collection and write the average query latency (in nanoseconds)
+	 * together with the average counters of {@link UBTreeMetrics} per query and
+	 * the maximum search depth to {@code METRICS_FILE}
+	 * 
+	 * <p>
+	 * Note: The latency includes the cost of updating the counters and of the JFR
+	 * events, so that the latency of the uninstrumented {@link UBTree} has to be
+	 * taken from the {@code workload} mode
+	 * </p>
+	 * 
+	 * @param size        An {@code int} defining the number of queries per test
+	 *                    file
+	 * @param proportions A {@code double[]} with a weight for each
+	 *                    {@link QueryKind}
+	 */
+	static void collectMetrics(int size, double[] proportions) {
+		if (!UBTreeMetrics.ENABLED) {
+			System.out.println("metrics are only collected with -Dubtree.metrics=true");
+			return;
+		}
+
+		try (BufferedWriter buffWriter = new BufferedWriter(new FileWriter(METRICS_FILE))) {
+			buffWriter.write(
+					"test-file,queries,instrumented-query-latency,nodes-visited,binary-searches,distance-pruned,min-end-pruned,eop-hits,max-depth");
+			buffWriter.newLine();
+
+			String[] fileNames = readFileNames();
+			for (int i = 0; i < fileNames.length; i++) {
+				String fileName = fileNames[i];
+				// show current experiment progress
+				System.out.println("running: " + (i + 1) + "/" + fileNames.length);
+
+				DataProvider dataProvider = new DataProvider("/files/" + fileName);
+				QueryWorkload workload = dataProvider.generateWorkload(size, proportions);
+				ArrayList<UBTree<Integer>> trees = new ArrayList<UBTree<Integer>>();
+				for (Collection<Set<Integer>> col : dataProvider.fileCollections) {
+					trees.add(new UBTree<Integer>(col));
+				}
+
+				long time = 0;
+				for (QueryWorkload.Query query : workload.queries) {
+					long start = System.nanoTime();
+					trees.get(query.collection).checkMinimal(query.set);
+					time += System.nanoTime() - start;
+				}
+				// aggregate counters of all trees
+				UBTreeMetrics metrics = new UBTreeMetrics();
+				for (UBTree<Integer> tree : trees) {
+					metrics.add(tree.getMetrics());
+				}
+
+				double queries = Math.max(1, metrics.getQueries());
+				buffWriter.write(fileName.substring(0, fileName.indexOf(".")) + "," + metrics.getQueries() + ","
+						+ (long) (time / queries) + "," + metrics.getNodesVisited() / queries + ","
+						+ metrics.getBinarySearches() / queries + "," + metrics.getDistancePruned() / queries + ","
+						+ metrics.getEndPruned() / queries + "," + metrics.getEopHits() / queries + "," + metrics.getMaxDepth());
+				buffWriter.newLine();
+			}
+
+			// experiment finished
+			System.out.println("done");
+
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Measure the query latency of each index type for sampled collections of the
+	 * test files, fit a {@link CostModel} to all measurements and evaluate the
+	 * choice of the index type on held-out test files
+	 * 
+	 * <p>
+	 * The latencies (in nanoseconds) and statistics of the sampled collections are
+	 * written to {@code CALIBRATION_FILE} and the fitted model to
+	 * {@code COST_MODEL_FILE}. Index types that return a wrong result for any query
+	 * are excluded from the model. For each test file, a model fitted to the
+	 * collections of the other test files chooses the index type of its
+	 * collections, and the number of choices of the fastest type and the mean
+	 * ratio of the latency of the chosen type to the fastest latency are written
+	 * to {@code HOLDOUT_FILE}.
+	 * </p>
+	 * 
+	 * @param samples     An {@code int} defining the maximum number of sampled
+	 *                    collections per test file
+	 * @param size        An {@code int} defining the number of queries per
+	 *                    collection
+	 * @param proportions A {@code double[]} with a weight for each
+	 *                    {@link QueryKind}
+	 */
+	static void calibrate(int samples, int size, double[] proportions) {
+		ArrayList<ExpIndexType> indexTypes = new ArrayList<ExpIndexType>(Arrays.asList(ExpIndexType.values()));
+		indexTypes.remove(ExpIndexType.ADAPTIVE);
+		boolean[] valid = new boolean[ExpIndexType.values().length];
+		Arrays.fill(valid, true);
+
+		// measurements of all sampled collections
+		ArrayList<CollectionStatistics> stats = new ArrayList<CollectionStatistics>();
+		ArrayList<long[]> latencies = new ArrayList<long[]>();
+		ArrayList<Integer> sampleFiles = new ArrayList<Integer>();
+
+		try (BufferedWriter buffWriter = new BufferedWriter(new FileWriter(CALIBRATION_FILE))) {
+			buffWriter.write("test-file,collection,sets,mean-set-size,max-set-size,universe-size,prefix-sharing");
+			for (ExpIndexType type : indexTypes) {
+				buffWriter.write("," + type.getName());
+			}
+			buffWriter.newLine();
+
+			String[] fileNames = readFileNames();
+			for (int i = 0; i < fileNames.length; i++) {
+				String fileName = fileNames[i];
+				// show current experiment progress
+				System.out.println("running: " + (i + 1) + "/" + fileNames.length);
+
+				DataProvider dataProvider = new DataProvider("/files/" + fileName);
+				int setRepLength = dataProvider.getMaxSetSize();
+				ArrayList<Collection<Set<Integer>>> cols = dataProvider.fileCollections;
+				for (int c = 0; c < cols.size(); c += Math.max(1, cols.size() / samples)) {
+					Collection<Set<Integer>> col = cols.get(c);
+					// a single set needs no index
+					if (col.size() < 2) {
+						continue;
+					}
+					ArrayList<Collection<Set<Integer>>> sample = new ArrayList<Collection<Set<Integer>>>();
+					sample.add(col);
+					List<QueryWorkload.Query> queries = QueryWorkload
+							.generate(sample, size, proportions, dataProvider.random.nextLong()).getQueries();
+
+					long[] sampleLatencies = new long[ExpIndexType.values().length];
+					for (ExpIndexType type : indexTypes) {
+						sampleLatencies[type.ordinal()] = measureCalibrationLatency(type, col, setRepLength, queries);
+						if (sampleLatencies[type.ordinal()] < 0 && valid[type.ordinal()]) {
+							System.err.println(type.getName() + " returned wrong result and is not calibrated");
+							valid[type.ordinal()] = false;
+						}
+					}
+					CollectionStatistics colStats = new CollectionStatistics(col);
+					stats.add(colStats);
+					latencies.add(sampleLatencies);
+					sampleFiles.add(i);
+
+					buffWriter.write(fileName.substring(0, fileName.indexOf(".")) + "," + c + ","
+							+ colStats.getSetCount() + "," + colStats.getMeanSetSize() + ","
+							+ colStats.getMaxSetSize() + "," + colStats.getUniverseSize() + ","
+							+ colStats.getPrefixSharing());
+					for (ExpIndexType type : indexTypes) {
+						long latency = sampleLatencies[type.ordinal()];
+						buffWriter.write("," + (latency < 0 ? "NA" : Long.toString(latency)));
+					}
+					buffWriter.newLine();
+				}
+			}
+			indexTypes.removeIf(type -> !valid[type.ordinal()]);
+
+			// model of all measurements
+			try (BufferedWriter modelWriter = new BufferedWriter(new FileWriter(COST_MODEL_FILE))) {
+				fitCostModel(indexTypes, stats, latencies, sampleFiles, -1).write(modelWriter);
+			}
+
+			// evaluate models on the test files they are not fitted to
+			try (BufferedWriter holdoutWriter = new BufferedWriter(new FileWriter(HOLDOUT_FILE))) {
+				holdoutWriter.write("test-file,collections,fastest-chosen,latency-ratio");
+				holdoutWriter.newLine();
+				int totalSamples = 0;
+				int totalFastest = 0;
+				double totalRatio = 0;
+				for (int i = 0; i < fileNames.length; i++) {
+					CostModel model = fitCostModel(indexTypes, stats, latencies, sampleFiles, i);
+					int fileSamples = 0;
+					int fastest = 0;
+					double ratio = 0;
+					for (int s = 0; s < stats.size(); s++) {
+						if (sampleFiles.get(s) != i) {
+							continue;
+						}
+						long[] sampleLatencies = latencies.get(s);
+						long best = Long.MAX_VALUE;
+						for (ExpIndexType type : indexTypes) {
+							best = Math.min(best, sampleLatencies[type.ordinal()]);
+						}
+						long chosen = sampleLatencies[model.chooseType(stats.get(s)).ordinal()];
+						fileSamples++;
+						fastest += chosen == best ? 1 : 0;
+						ratio += (double) chosen / Math.max(1, best);
+					}
+					if (fileSamples > 0) {
+						holdoutWriter.write(fileNames[i].substring(0, fileNames[i].indexOf(".")) + ","
+								+ fileSamples + "," + fastest + "," + ratio / fileSamples);
+						holdoutWriter.newLine();
+					}
+					totalSamples += fileSamples;
+					totalFastest += fastest;
+					totalRatio += ratio;
+				}
+				holdoutWriter.write("ALL," + totalSamples + "," + totalFastest + ","
+						+ totalRatio / Math.max(1, totalSamples));
+				holdoutWriter.newLine();
+			}
 
 			// experiment finished
 			System.out.println("done");
@@ -116,117 +1058,310 @@ public class RunExperiment {
 		}
 	}
 
+	/**
+	 * Measure the average latency of the queries of a collection for an index type
+	 * 
+	 * @param type         An {@link ExpIndexType}
+	 * @param col          A {@link Collection} of {@link Set} elements containing
+	 *                     {@link Integer} values
+	 * @param setRepLength A positive {@code int} value defining the length of set
+	 *                     representations based on bit vectors
+	 * @param queries      A {@link List} with the {@link QueryWorkload.Query}
+	 *                     objects of {@code col}
+	 * @return A {@code long} defining the latency in nanoseconds, or -1 if the
+	 *         index returned a wrong result
+	 */
+	static long measureCalibrationLatency(ExpIndexType type, Collection<Set<Integer>> col, int setRepLength,
+			List<QueryWorkload.Query> queries) {
+		ExpIndex index = type.createIndex(new ArrayList<Set<Integer>>(col), setRepLength);
+		// warm up and verify results
+		for (QueryWorkload.Query query : queries) {
+			if (index.checkMinimal(query.set) != query.minimal) {
+				return -1;
+			}
+		}
+		long time = 0;
+		long count = 0;
+		while (time < CALIBRATION_NANOS) {
+			long start = System.nanoTime();
+			for (QueryWorkload.Query query : queries) {
+				index.checkMinimal(query.set);
+			}
+			time += System.nanoTime() - start;
+			count += queries.size();
+		}
+		// latencies below one nanosecond cannot be fitted on a logarithmic scale
+		return Math.max(1, time / count);
+	}
+
+	/**
+	 * Fit a {@link CostModel} to the measured latencies of sampled collections
+	 * 
+	 * @param indexTypes  A {@link List} with the {@link ExpIndexType} values
+	 *                    contained in the model
+	 * @param stats       A {@link List} with the {@link CollectionStatistics} of
+	 *                    the sampled collections
+	 * @param latencies   A {@link List} with the latency of each index type (by
+	 *                    ordinal) for each sampled collection
+	 * @param sampleFiles A {@link List} with the index of the test file of each
+	 *                    sampled collection
+	 * @param heldOut     An {@code int} defining the index of the test file whose
+	 *                    collections are not used, or -1
+	 * @return A {@link CostModel}
+	 */
+	static CostModel fitCostModel(List<ExpIndexType> indexTypes, List<CollectionStatistics> stats,
+			List<long[]> latencies, List<Integer> sampleFiles, int heldOut) {
+		ArrayList<CollectionStatistics> fitStats = new ArrayList<CollectionStatistics>();
+		ArrayList<long[]> fitLatencies = new ArrayList<long[]>();
+		for (int s = 0; s < stats.size(); s++) {
+			if (sampleFiles.get(s) != heldOut) {
+				fitStats.add(stats.get(s));
+				fitLatencies.add(latencies.get(s));
+			}
+		}
+		EnumMap<ExpIndexType, double[]> coefficients = new EnumMap<ExpIndexType, double[]>(ExpIndexType.class);
+		for (ExpIndexType type : indexTypes) {
+			double[] typeLatencies = new double[fitStats.size()];
+			for (int s = 0; s < typeLatencies.length; s++) {
+				typeLatencies[s] = fitLatencies.get(s)[type.ordinal()];
+			}
+			coefficients.put(type, CostModel.fit(fitStats, typeLatencies));
+		}
+		return new CostModel(coefficients);
+	}
+
+	/**
+	 * Measure the time and heap memory needed by a loader of a test file
+	 * 
+	 * <p>
+	 * The peak heap usage is approximated by the sum of the peak usages of all heap
+	 * memory pools, reduced by the heap usage before loading
+	 * </p>
+	 * 
+	 * @param loader A {@link Callable} loading a test file
+	 * @param repeat An {@code int} defining how often the file is loaded
+	 * @return A {@code long[]} with the average time (in nanoseconds) and the
+	 *         maximum peak heap usage (in bytes)
+	 * @throws Exception if the loader fails
+	 */
+	static long[] measureLoader(Callable<?> loader, int repeat) throws Exception {
+		ArrayList<MemoryPoolMXBean> heapPools = new ArrayList<MemoryPoolMXBean>();
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				heapPools.add(pool);
+			}
+		}
+
+		long time = 0;
+		long peakHeap = 0;
+		for (int j = 0; j < repeat; j++) {
+			System.gc();
+			long before = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+			for (MemoryPoolMXBean pool : heapPools) {
+				pool.resetPeakUsage();
+			}
+
+			long start = System.nanoTime();
+			Object loaded = loader.call();
+			time += System.nanoTime() - start;
+
+			long peak = 0;
+			for (MemoryPoolMXBean pool : heapPools) {
+				peak += pool.getPeakUsage().getUsed();
+			}
+			peakHeap = Math.max(peakHeap, peak - before);
+			// keep loaded data reachable until peak is determined
+			Objects.requireNonNull(loaded);
+		}
+		return new long[] { time / repeat, peakHeap };
+	}
+
+	/**
+	 * Count the nodes of the {@link UBTree} objects that are pruned by each bound
+	 * when checking the minimality of test sets and looking up their supersets,
+	 * and write the average numbers per test set to {@code PRUNING_FILE}
+	 * 
+	 * <p>
+	 * Note: The nodes are only counted if the system property
+	 * {@code ubtree.metrics} is set to {@code true}
+	 * </p>
+	 * 
+	 * @param fileNames A {@link String} array with the names of the test files
+	 */
+	static void countPrunedNodes(String[] fileNames) {
+		if (!UBTreeMetrics.ENABLED) {
+			System.out.println("pruned nodes are only counted with -Dubtree.metrics=true");
+			return;
+		}
+
+		try (BufferedWriter buffWriter = new BufferedWriter(new FileWriter(PRUNING_FILE))) {
+			buffWriter.write("test-file,distance,min-end,max-element");
+			buffWriter.newLine();
+
+			for (int i = 0; i < fileNames.length; i++) {
+				String fileName = fileNames[i];
+				// show current experiment progress
+				System.out.println("running: " + (i + 1) + "/" + fileNames.length);
+
+				DataProvider dataProvider = new DataProvider("/files/" + fileName);
+				ArrayList<UBTree<Integer>> trees = new ArrayList<UBTree<Integer>>();
+				for (Collection<Set<Integer>> col : dataProvider.fileCollections) {
+					trees.add(new UBTree<Integer>(col));
+				}
+
+				for (int k = 0; k < EXPERIMENT_REPETITIONS; k++) {
+					for (UBTree<Integer> tree : trees) {
+						tree.checkMinimal(dataProvider.testSet);
+						tree.lookup_supersets(dataProvider.testSet);
+					}
+					// get new test set
+					dataProvider.getNewTestSet();
+					// update tree of collection from which the test set has been removed
+					if (dataProvider.isTestSetRemoved()) {
+						trees.get(dataProvider.testSetCollection).remove(dataProvider.testSet);
+					}
+				}
+
+				// sum up counters of all trees
+				UBTreeMetrics metrics = new UBTreeMetrics();
+				for (UBTree<Integer> tree : trees) {
+					metrics.add(tree.getMetrics());
+				}
+				buffWriter.write(fileName.substring(0, fileName.indexOf(".")) + ","
+						+ metrics.getDistancePruned() / EXPERIMENT_REPETITIONS + ","
+						+ metrics.getEndPruned() / EXPERIMENT_REPETITIONS + ","
+						+ metrics.getMaxElementPruned() / EXPERIMENT_REPETITIONS);
+				buffWriter.newLine();
+			}
+
+			// experiment finished
+			System.out.println("done");
+
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Create an {@link ExpIndex} of each given type for every collection of a
+	 * {@link DataProvider}
+	 * 
+	 * @param indexTypes   An array of {@link ExpIndexType} values
+	 * @param dataProvider A {@link DataProvider} providing the collections
+	 * @param buildTimes   A {@code long[]} of the same length as
+	 *                     {@code indexTypes} in which the time (in nanoseconds)
+	 *                     needed to create the indexes of each type is stored
+	 * @param footprints   A {@code long[]} of the same length as
+	 *                     {@code indexTypes} in which the heap memory (in bytes)
+	 *                     retained by the indexes of each type after a garbage
+	 *                     collection is stored, or {@code null} if the memory is
+	 *                     not measured
+	 * @return An {@link ArrayList} containing for each element of
+	 *         {@code indexTypes} an {@link ArrayList} with the indexes of the
+	 *         collections in {@link DataProvider#fileCollections}
+	 */
+	static ArrayList<ArrayList<ExpIndex>> createIndexes(ExpIndexType[] indexTypes, DataProvider dataProvider,
+			long[] buildTimes, long[] footprints) {
+		// define set representation (bit vector) length as maximum size of the
+		// collections' sets
+		int setRepLength = dataProvider.getMaxSetSize();
+
+		ArrayList<ArrayList<ExpIndex>> indexLists = new ArrayList<ArrayList<ExpIndex>>();
+		for (int i = 0; i < indexTypes.length; i++) {
+			ArrayList<ExpIndex> indexList = new ArrayList<ExpIndex>();
+			long usedBefore = footprints == null ? 0 : usedHeapAfterGC();
+			long start = System.nanoTime();
+			for (Collection<Set<Integer>> col : dataProvider.fileCollections) {
+				indexList.add(indexTypes[i].createIndex(col, setRepLength));
+			}
+			buildTimes[i] = System.nanoTime() - start;
+			indexLists.add(indexList);
+			if (footprints != null) {
+				footprints[i] = Math.max(0, usedHeapAfterGC() - usedBefore);
+			}
+		}
+		return indexLists;
+	}
+
+	/**
+	 * Determine the heap memory in use after requesting garbage collections
+	 * 
+	 * @return A {@code long} defining the used heap memory in bytes
+	 */
+	static long usedHeapAfterGC() {
+		Runtime runtime = Runtime.getRuntime();
+		// several collections to free objects with finalizers
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * Determine the number of queries after which an index has paid off its
+	 * construction compared to the simple implementation, i.e. the smallest number
+	 * of queries for which its total time is lower
+	 * 
+	 * @param buildTime          A {@code long} defining the construction time of
+	 *                           the index
+	 * @param queryLatency       A {@code long} defining the time of a query on
+	 *                           the index
+	 * @param simpleBuildTime    A {@code long} defining the construction time of
+	 *                           the simple implementation
+	 * @param simpleQueryLatency A {@code long} defining the time of a query on the
+	 *                           simple implementation
+	 * @return A {@link String} with the number of queries, or {@code Inf} if the
+	 *         index never pays off
+	 */
+	static String breakEven(long buildTime, long queryLatency, long simpleBuildTime, long simpleQueryLatency) {
+		if (buildTime < simpleBuildTime) {
+			// index is already cheaper before the first query
+			return "0";
+		}
+		if (queryLatency >= simpleQueryLatency) {
+			return "Inf";
+		}
+		return String.valueOf((buildTime - simpleBuildTime) / (simpleQueryLatency - queryLatency) + 1);
+	}
+
 	/**
 	 * Measure the performance time for conducting set minimality checking
 	 * 
-	 * @param <E>          An implementation of {@link ExpSetRepresent} for type
-	 *                     {@code S}
-	 * @param <S>          An implementation of both {@link SetRepresent} and
-	 *                     {@link Comparable}
-	 * @param setRepList   An {@link ArrayList} containing different
-	 *                     {@link ExpSetRepresent} implementations used to perform
-	 *                     set minimality checking
-	 * @param dataProvider A {@link DataProvider} providing the sets for the
+	 * @param indexLists   An {@link ArrayList} containing for each tested index
+	 *                     type an {@link ArrayList} with the {@link ExpIndex}
+	 *                     objects of all collections
+	 * @param dataProvider A {@link DataProvider} providing the test set for the
 	 *                     minimality checking
 	 * @param repeat       An {@code int} defining how often the process is repeated
 	 *                     to allow more accurate time measurements
 	 * @return An {@code long[]} containing values that represent the measured time
-	 *         in nanoseconds, whereby the first element contains the time for the
-	 *         standard approach of considering every set in a collection until a
-	 *         subset is found, while the remaining list entries relate to each
-	 *         element of {@code setRepList}, followed by the representations based
-	 *         on {@link BloomTrieCollection2} and {@link UBTree}
+	 *         in nanoseconds for each element of {@code indexLists}
 	 * @see {@link System#nanoTime()}
 	 */
-	public static <E extends ExpSetRepresent<S, R>, S extends SetRepresent<R> & Comparable<S>, R> long[] getTimeForMinCheck(
-			ArrayList<E> setRepList, DataProvider dataProvider, int repeat) {
-		// get number of tested set representations
-		int setRepNr = setRepList.size();
-
-		// convert the collections into the different provided set representations
-		ArrayList<ArrayList<NavigableSet<S>>> setRepConvertList = dataProvider.getConvertedCollections(setRepList);
-		// convert the collections into BloomTrieCollection2 instances
-		ArrayList<BloomTrieCollection2<Set<Integer>>> bloomTrieList = new ArrayList<BloomTrieCollection2<Set<Integer>>>();
-		for (Collection<Set<Integer>> col : dataProvider.fileCollections) {
-			BloomTrieCollection2<Set<Integer>> trie = new BloomTrieCollection2<Set<Integer>>();
-			for (Set<Integer> set : col) {
-				trie.add(set);
-			}
-			bloomTrieList.add(trie);
-		}
-		// convert the collections into UBTree objects
-		ArrayList<UBTree<Integer>> ubTreeList = new ArrayList<UBTree<Integer>>();
-		for (Collection<Set<Integer>> col : dataProvider.fileCollections) {
-			ubTreeList.add(new UBTree<Integer>(col));
-		}
-
-		// create list to store measured time for each set representation
-		long[] measuredTimes = new long[setRepNr + 3];
+	public static long[] getTimeForMinCheck(ArrayList<ArrayList<ExpIndex>> indexLists, DataProvider dataProvider,
+			int repeat) {
+		// create list to store measured time for each index type
+		long[] measuredTimes = new long[indexLists.size()];
 		// variables for time measuring
 		long start;
 		long end;
 
 		// repeat process for more accurate time measurement
 		for (int j = 0; j < repeat; j++) {
-
-			// start time measuring
-			start = System.nanoTime();
-			// perform minimality checking by simply going through collection and looking
-			// for subsets
-			for (Collection<Set<Integer>> col : dataProvider.fileCollections) {
-				// perform minimality check on collection
-				simpleMinimalityCheck(col, dataProvider.testSet);
-			}
-			// end time measuring
-			end = System.nanoTime();
-			// save measurement for current set representation
-			measuredTimes[0] += end - start;
-
-			// conduct minimality check for each set representation
-			for (int i = 0; i < setRepNr; i++) {
-				// prepare currently tested SetRepresent implementation
-				ExpSetRepresent<S, R> expSetRep = setRepList.get(i);
-
+			// conduct minimality check for each index type
+			for (int i = 0; i < measuredTimes.length; i++) {
 				// start time measuring
 				start = System.nanoTime();
 				// check minimality for each collection
-				for (NavigableSet<S> col : setRepConvertList.get(i)) {
+				for (ExpIndex index : indexLists.get(i)) {
 					// perform minimality check
-					SetMinimalityChecker.<S>isMinimal(col, dataProvider.testSet,
-							expSetRep.getMatchProvider(dataProvider.testSet));
+					index.checkMinimal(dataProvider.testSet);
 				}
 				// end time measuring
 				end = System.nanoTime();
-				// save measurement for current set representation
-				measuredTimes[i + 1] += end - start;
-			}
-
-			// use BloomTrieCollection2 representation
-			// start time measuring
-			start = System.nanoTime();
-			// check minimality for each UBTree
-			for (BloomTrieCollection2<Set<Integer>> trie : bloomTrieList) {
-				// perform minimality check
-				trie.isMinimal(dataProvider.testSet);
+				// save measurement for current index type
+				measuredTimes[i] += end - start;
 			}
-			// end time measuring
-			end = System.nanoTime();
-			// save measurement for current set representation
-			measuredTimes[measuredTimes.length - 2] += end - start;
-
-			// use UBTree representation
-			// start time measuring
-			start = System.nanoTime();
-			// check minimality for each UBTree
-			for (UBTree<Integer> tree : ubTreeList) {
-				// perform minimality check
-				tree.checkMinimal(dataProvider.testSet);
-			}
-			// end time measuring
-			end = System.nanoTime();
-			// save measurement for current set representation
-			measuredTimes[measuredTimes.length - 1] += end - start;
-
 		}
 		// compute average
 		for (int i = 0; i < measuredTimes.length; i++) {
@@ -237,25 +1372,4 @@ public class RunExperiment {
 
 	}
 
-	/**
-	 * Simple set minimality check by considering every set of a collection to find
-	 * all the subsets
-	 * 
-	 * @param col     A {@link Collection} of {@link Set} elements
-	 * @param testSet A {@link Set}
-	 * @return {@code true} if the collection {@code col} does not contain any
-	 *         subset of {@code testSet}, otherwise {@code false}
-	 */
-	private static boolean simpleMinimalityCheck(Collection<Set<Integer>> col, Set<Integer> testSet) {
-		Collection<Set<Integer>> subsets = new HashSet<Set<Integer>>();
-		// get all subsets from collection
-		for (Set<Integer> set : col) {
-			if (testSet.containsAll(set)) {
-				subsets.add(set);
-			}
-		}
-		// testSet is minimal w.r.t. col if no subset could be found
-		return subsets.isEmpty();
-	}
-
 }
@@ -0,0 +1,230 @@
+package com.autoreason.setmincheck;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A compact representation of set collections in which the sorted elements of
+ * all sets are stored consecutively in a single {@code int[]}
+ * 
+ * <p>
+ * Set {@code s} consists of the elements from {@code elements[setStart[s]]}
+ * (inclusive) to {@code elements[setStart[s + 1]]} (exclusive), and collection
+ * {@code c} consists of the sets from {@code collectionStart[c]} (inclusive) to
+ * {@code collectionStart[c + 1]} (exclusive)
+ * </p>
+ *
+ * @see SetFileParser
+ */
+public class SetArena {
+
+	/**
+	 * the elements of all sets
+	 */
+	int[] elements;
+
+	/**
+	 * the index of the first element of each set, followed by the total number of
+	 * elements
+	 */
+	int[] setStart;
+
+	/**
+	 * the index of the first set of each collection, followed by the total number
+	 * of sets
+	 */
+	int[] collectionStart;
+
+	// number of stored sets and elements
+	private int setNr;
+	private int elementNr;
+	// number of collections with at least one set
+	private int collectionNr;
+
+	private SetArena() {
+		elements = new int[1024];
+		setStart = new int[256];
+		collectionStart = new int[16];
+	}
+
+	/**
+	 * Create an arena from the given arrays
+	 * 
+	 * @param elements        An {@code int[]} with the elements of all sets
+	 * @param setStart        An {@code int[]} with the index of the first element
+	 *                        of each set, followed by the number of elements
+	 * @param collectionStart An {@code int[]} with the index of the first set of
+	 *                        each collection, followed by the number of sets
+	 */
+	SetArena(int[] elements, int[] setStart, int[] collectionStart) {
+		this.elements = elements;
+		this.setStart = setStart;
+		this.collectionStart = collectionStart;
+		this.elementNr = elements.length;
+		this.setNr = setStart.length - 1;
+		this.collectionNr = collectionStart.length - 1;
+	}
+
+	/**
+	 * Read the set collections of a stream into an arena
+	 * 
+	 * @param in An {@link InputStream} providing a file of set collections
+	 * @return A {@link SetArena} containing all sets of the stream
+	 * @throws IOException if the stream cannot be read
+	 */
+	public static SetArena read(InputStream in) throws IOException {
+		SetArena arena = new SetArena();
+		SetFileParser.parse(in, arena::add);
+		arena.trim();
+		return arena;
+	}
+
+	/**
+	 * Read the set collections of a resource file into an arena
+	 * 
+	 * @param resource A {@link String} that defines the path to a resource file
+	 *                 containing sets generated with {@code SetFileConverter}
+	 * @return A {@link SetArena} containing all sets of the file
+	 * @throws IOException if the file cannot be read
+	 */
+	public static SetArena readResource(String resource) throws IOException {
+		InputStream in = SetArena.class.getResourceAsStream(resource);
+		if (in == null) {
+			throw new IOException("Resource not found: " + resource);
+		}
+		try (InputStream stream = in) {
+			return read(stream);
+		}
+	}
+
+	/**
+	 * Append a set to the arena
+	 * 
+	 * @param collection An {@code int} stating the index of the collection the set
+	 *                   belongs to, which is either the last or a new collection
+	 * @param set        An {@code int[]} with sorted distinct elements
+	 * @param from       An {@code int} defining the index of the first element
+	 * @param to         An {@code int} defining the index after the last element
+	 */
+	private void add(int collection, int[] set, int from, int to) {
+		int size = to - from;
+		if (elementNr + size > elements.length) {
+			elements = Arrays.copyOf(elements, Math.max(2 * elements.length, elementNr + size));
+		}
+		System.arraycopy(set, from, elements, elementNr, size);
+		// start new collections (if necessary)
+		while (collectionNr <= collection) {
+			if (collectionNr + 1 >= collectionStart.length) {
+				collectionStart = Arrays.copyOf(collectionStart, 2 * collectionStart.length);
+			}
+			collectionStart[collectionNr++] = setNr;
+		}
+		if (setNr + 1 >= setStart.length) {
+			setStart = Arrays.copyOf(setStart, 2 * setStart.length);
+		}
+		setStart[setNr++] = elementNr;
+		elementNr += size;
+	}
+
+	/**
+	 * Shrink the arrays to their used size and add the final bounds
+	 */
+	private void trim() {
+		elements = Arrays.copyOf(elements, elementNr);
+		setStart = Arrays.copyOf(setStart, setNr + 1);
+		setStart[setNr] = elementNr;
+		collectionStart = Arrays.copyOf(collectionStart, collectionNr + 1);
+		collectionStart[collectionNr] = setNr;
+	}
+
+	/**
+	 * Get the number of collections
+	 * 
+	 * @return A non-negative {@code int}
+	 */
+	public int collectionCount() {
+		return collectionNr;
+	}
+
+	/**
+	 * Get the number of sets in all collections
+	 * 
+	 * @return A non-negative {@code int}
+	 */
+	public int setCount() {
+		return setNr;
+	}
+
+	/**
+	 * Get a copy of a set
+	 * 
+	 * @param set An {@code int} stating the index of the set
+	 * @return An {@code int[]} with the elements of the set in ascending order
+	 */
+	public int[] getSet(int set) {
+		return Arrays.copyOfRange(elements, setStart[set], setStart[set + 1]);
+	}
+
+	/**
+	 * Get the number of elements in all sets
+	 * 
+	 * @return A non-negative {@code int}
+	 */
+	public int elementCount() {
+		return elementNr;
+	}
+
+	/**
+	 * Convert the arena into collections of {@link Set} objects as provided by
+	 * {@code FileSetConverter}
+	 * 
+	 * @return An {@link ArrayList} containing for each collection a
+	 *         {@link Collection} of {@link Set} elements
+	 */
+	public ArrayList<Collection<Set<Integer>>> toCollections() {
+		ArrayList<Collection<Set<Integer>>> cols = new ArrayList<Collection<Set<Integer>>>(collectionNr);
+		for (int c = 0; c < collectionNr; c++) {
+			ArrayList<Set<Integer>> col = new ArrayList<Set<Integer>>(collectionStart[c + 1] - collectionStart[c]);
+			forEach(c, (collection, set, from, to) -> {
+				HashSet<Integer> s = new HashSet<Integer>(2 * (to - from));
+				for (int i = from; i < to; i++) {
+					s.add(set[i]);
+				}
+				col.add(s);
+			});
+			cols.add(col);
+		}
+		return cols;
+	}
+
+	/**
+	 * Pass all sets of the arena to a visitor without copying them
+	 * 
+	 * @param visitor A {@link SetVisitor} receiving the sets in the order of the
+	 *                file
+	 */
+	public void forEach(SetVisitor visitor) {
+		for (int c = 0; c < collectionNr; c++) {
+			forEach(c, visitor);
+		}
+	}
+
+	/**
+	 * Pass all sets of a collection to a visitor without copying them
+	 * 
+	 * @param collection An {@code int} stating the index of the collection
+	 * @param visitor    A {@link SetVisitor} receiving the sets in the order of
+	 *                   the file
+	 */
+	public void forEach(int collection, SetVisitor visitor) {
+		for (int s = collectionStart[collection]; s < collectionStart[collection + 1]; s++) {
+			visitor.visitSet(collection, elements, setStart[s], setStart[s + 1]);
+		}
+	}
+
+}
@@ -0,0 +1,196 @@
+package com.autoreason.setmincheck;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A compact binary format for files of set collections, which is read by
+ * mapping the file into memory
+ * 
+ * <p>
+ * The file starts with the little-endian {@code int} values {@link #MAGIC},
+ * {@link #VERSION}, and the numbers of collections, sets and elements. Then,
+ * each collection is given by its number of sets, and each of its sets by its
+ * size followed by its elements in ascending order, where all these values are
+ * unsigned variable-length integers (7 bits per byte) and every element except
+ * the first one of a set is stored as its difference to the previous element
+ * minus one. The first element of a set is zigzag-encoded, so that negative
+ * elements remain small.
+ * </p>
+ *
+ * @see SetArena
+ */
+public class SetCollectionFile {
+
+	/**
+	 * the first {@code int} of every file ("SETC")
+	 */
+	final static int MAGIC = 0x53455443;
+
+	/**
+	 * the version of the file format
+	 */
+	final static int VERSION = 1;
+
+	/**
+	 * Write the sets of an arena to a binary file
+	 * 
+	 * @param arena A {@link SetArena}
+	 * @param file  A {@link Path} defining the file to which the sets are written
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(SetArena arena, Path file) throws IOException {
+		try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)) {
+			writeInt(out, MAGIC);
+			writeInt(out, VERSION);
+			writeInt(out, arena.collectionCount());
+			writeInt(out, arena.setCount());
+			writeInt(out, arena.elementCount());
+			for (int c = 0; c < arena.collectionCount(); c++) {
+				writeVarint(out, arena.collectionStart[c + 1] - arena.collectionStart[c]);
+				for (int s = arena.collectionStart[c]; s < arena.collectionStart[c + 1]; s++) {
+					int from = arena.setStart[s];
+					int to = arena.setStart[s + 1];
+					writeVarint(out, to - from);
+					for (int i = from; i < to; i++) {
+						if (i == from) {
+							// zigzag encoding of first element
+							writeVarint(out, (arena.elements[i] << 1) ^ (arena.elements[i] >> 31));
+						} else {
+							writeVarint(out, arena.elements[i] - arena.elements[i - 1] - 1);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Convert a text file of set collections into a binary file
+	 * 
+	 * @param text   An {@link InputStream} providing a file of set collections
+	 *               generated with {@code SetFileConverter}
+	 * @param binary A {@link Path} defining the file to which the sets are
+	 *               written
+	 * @throws IOException if the text cannot be read or the file cannot be
+	 *                     written
+	 */
+	public static void convert(InputStream text, Path binary) throws IOException {
+		write(SetArena.read(text), binary);
+	}
+
+	/**
+	 * Read a binary file by mapping it into memory
+	 * 
+	 * @param file A {@link Path} to a file created by
+	 *             {@link #write(SetArena, Path)}
+	 * @return A {@link SetArena} containing the sets of the file
+	 * @throws IOException if the file cannot be read or is not a set collection
+	 *                     file of a supported version
+	 */
+	public static SetArena read(Path file) throws IOException {
+		MappedByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			// mapping remains valid after channel is closed
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+		try {
+			// check header
+			if (buffer.getInt() != MAGIC) {
+				throw new IOException("Not a set collection file: " + file);
+			}
+			int version = buffer.getInt();
+			if (version != VERSION) {
+				throw new IOException("Unsupported set collection file version " + version + ": " + file);
+			}
+			int[] collectionStart = new int[buffer.getInt() + 1];
+			int[] setStart = new int[buffer.getInt() + 1];
+			int[] elements = new int[buffer.getInt()];
+
+			int setNr = 0;
+			int elementNr = 0;
+			for (int c = 0; c < collectionStart.length - 1; c++) {
+				collectionStart[c] = setNr;
+				int sets = readVarint(buffer);
+				for (int s = 0; s < sets; s++) {
+					setStart[setNr++] = elementNr;
+					int size = readVarint(buffer);
+					int elem = 0;
+					for (int i = 0; i < size; i++) {
+						int value = readVarint(buffer);
+						// decode first element or difference to previous element
+						elem = i == 0 ? (value >>> 1) ^ -(value & 1) : elem + value + 1;
+						elements[elementNr++] = elem;
+					}
+				}
+			}
+			collectionStart[collectionStart.length - 1] = setNr;
+			setStart[setStart.length - 1] = elementNr;
+			if (setNr != setStart.length - 1 || elementNr != elements.length || buffer.hasRemaining()) {
+				throw new IOException("Inconsistent set collection file: " + file);
+			}
+			return new SetArena(elements, setStart, collectionStart);
+
+		} catch (BufferUnderflowException | ArrayIndexOutOfBoundsException | NegativeArraySizeException e) {
+			throw new IOException("Truncated set collection file: " + file, e);
+		}
+	}
+
+	/**
+	 * Write an {@code int} in little-endian byte order
+	 * 
+	 * @param out   An {@link OutputStream}
+	 * @param value An {@code int}
+	 * @throws IOException if the value cannot be written
+	 */
+	private static void writeInt(OutputStream out, int value) throws IOException {
+		out.write(value);
+		out.write(value >>> 8);
+		out.write(value >>> 16);
+		out.write(value >>> 24);
+	}
+
+	/**
+	 * Write an {@code int} as unsigned variable-length integer
+	 * 
+	 * @param out   An {@link OutputStream}
+	 * @param value An {@code int} interpreted as unsigned value
+	 * @throws IOException if the value cannot be written
+	 */
+	private static void writeVarint(OutputStream out, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	/**
+	 * Read an unsigned variable-length integer
+	 * 
+	 * @param buffer A {@link MappedByteBuffer} positioned at the integer
+	 * @return An {@code int}
+	 */
+	private static int readVarint(MappedByteBuffer buffer) {
+		int value = 0;
+		for (int shift = 0;; shift += 7) {
+			byte b = buffer.get();
+			value |= (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,133 @@
+package com.autoreason.setmincheck;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * A streaming parser for files of set collections as written by
+ * {@code SetFileConverter}, where each line contains the elements of a set
+ * separated by spaces and a blank line ends a collection
+ * 
+ * <p>
+ * In contrast to {@code FileSetConverter}, the file is read byte by byte into
+ * a reusable buffer, so that neither lines nor boxed elements are created
+ * </p>
+ *
+ * @see SetArena
+ */
+public class SetFileParser {
+
+	/**
+	 * the size of the buffer for reading the file
+	 */
+	final static int BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * Parse the set collections of a stream and pass each set to a visitor
+	 * 
+	 * @param in      An {@link InputStream} providing a file of set collections
+	 * @param visitor A {@link SetVisitor} receiving the sorted sets in the order
+	 *                of the file
+	 * @return An {@code int} stating the number of parsed collections
+	 * @throws IOException if the stream cannot be read or contains invalid
+	 *                     characters, a sign without number or a number outside
+	 *                     the range of {@code int}
+	 */
+	public static int parse(InputStream in, SetVisitor visitor) throws IOException {
+		byte[] buffer = new byte[BUFFER_SIZE];
+		// elements of current set
+		int[] set = new int[64];
+		int size = 0;
+		// index of current collection
+		int collection = 0;
+		// whether the current collection contains any set
+		boolean collectionStarted = false;
+		// currently parsed number, whose absolute value is checked against the
+		// range of int
+		long value = 0;
+		boolean inNumber = false;
+		boolean negative = false;
+
+		int read;
+		while ((read = in.read(buffer)) != -1) {
+			for (int i = 0; i < read; i++) {
+				byte b = buffer[i];
+				if (b >= '0' && b <= '9') {
+					value = 10 * value + (b - '0');
+					if (value > (negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE)) {
+						throw new IOException("Number out of range in set file");
+					}
+					inNumber = true;
+				} else if (b == '-' && !inNumber && !negative) {
+					negative = true;
+				} else if (b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+					if (negative && !inNumber) {
+						throw new IOException("Sign without number in set file");
+					}
+					if (inNumber) {
+						// end of number
+						if (size == set.length) {
+							set = Arrays.copyOf(set, 2 * size);
+						}
+						set[size++] = (int) (negative ? -value : value);
+						value = 0;
+						inNumber = false;
+						negative = false;
+					}
+					if (b == '\n') {
+						if (size > 0) {
+							// end of set
+							size = sort(set, size);
+							visitor.visitSet(collection, set, 0, size);
+							size = 0;
+							collectionStarted = true;
+						} else if (collectionStarted) {
+							// blank line ends collection
+							collection++;
+							collectionStarted = false;
+						}
+					}
+				} else {
+					throw new IOException("Invalid character in set file: " + (char) b);
+				}
+			}
+		}
+		// last line without line break
+		if (negative && !inNumber) {
+			throw new IOException("Sign without number in set file");
+		}
+		if (inNumber) {
+			if (size == set.length) {
+				set = Arrays.copyOf(set, 2 * size);
+			}
+			set[size++] = (int) (negative ? -value : value);
+		}
+		if (size > 0) {
+			size = sort(set, size);
+			visitor.visitSet(collection, set, 0, size);
+			collectionStarted = true;
+		}
+		return collectionStarted ? collection + 1 : collection;
+	}
+
+	/**
+	 * Sort the first elements of an array and remove duplicates
+	 * 
+	 * @param set  An {@code int[]}
+	 * @param size An {@code int} defining the number of considered elements
+	 * @return An {@code int} stating the number of distinct elements, which are
+	 *         now located in ascending order at the beginning of {@code set}
+	 */
+	private static int sort(int[] set, int size) {
+		Arrays.sort(set, 0, size);
+		int distinct = 1;
+		for (int i = 1; i < size; i++) {
+			if (set[i] != set[distinct - 1]) {
+				set[distinct++] = set[i];
+			}
+		}
+		return distinct;
+	}
+
+}
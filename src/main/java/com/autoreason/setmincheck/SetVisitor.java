@@ -0,0 +1,24 @@
+package com.autoreason.setmincheck;
+
+/**
+ * A visitor for the sets of a collection file that receives every set as a
+ * range of a sorted {@code int} array
+ *
+ * @see SetFileParser
+ * @see SetArena#forEach(SetVisitor)
+ */
+public interface SetVisitor {
+
+	/**
+	 * Process a set of a collection
+	 * 
+	 * @param collection An {@code int} stating the index of the collection the set
+	 *                   belongs to
+	 * @param elements   An {@code int[]} containing the distinct elements of the
+	 *                   set in ascending order, which is only valid during the call
+	 * @param from       An {@code int} defining the index of the first element
+	 * @param to         An {@code int} defining the index after the last element
+	 */
+	void visitSet(int collection, int[] elements, int from, int to);
+
+}
@@ -1,12 +1,18 @@
 package com.autoreason.setmincheck;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * A tree data structure based on the Unlimited Branching Tree (UBTree) by
@@ -14,10 +20,32 @@ import java.util.SortedSet;
  *
  */
 public class UBTree<C extends Comparable<C>> {
+
+	/**
+	 * the maximum number of start indices of a test set that are handled by a
+	 * single task of a parallel minimality check
+	 */
+	final static int PARALLEL_THRESHOLD = 32;
 	
 	// set of all root nodes of the included set trees
 	ArrayList<UBTreeNode<C>> T;
 
+	/**
+	 * whether the signatures of the nodes are used to prune subtrees during a
+	 * minimality check
+	 */
+	boolean useSignatures;
+
+	/**
+	 * whether the UBTree contains the empty set, which is not represented by any
+	 * node and is a subset of every set
+	 */
+	boolean containsEmptySet;
+
+	// counters of the current minimality check
+	final UBTreeMetrics queryMetrics = new UBTreeMetrics();
+	// counters of all minimality checks since the last reset
+	final UBTreeMetrics metrics = new UBTreeMetrics();
 
 	public UBTree() {
 		T = new ArrayList<UBTreeNode<C>>();
@@ -26,17 +54,93 @@ public class UBTree<C extends Comparable<C>> {
 	/**
 	 * Construct a UBTree that contains the sets of the given collection
 	 * 
+	 * <p>
+	 * Instead of inserting the sets one by one, the sets are sorted
+	 * lexicographically, so that the tree can be built in a single pass where new
+	 * nodes are always appended to the end of the sorted children
+	 * </p>
+	 * 
 	 * @param col A {@link Collection} of {@link Set} elements
 	 */
 	public UBTree(Collection<Set<C>> col) {
 		T = new ArrayList<UBTreeNode<C>>();
-		// add sets of collection to tree
+		// sort elements of each set
+		ArrayList<ArrayList<C>> setLists = new ArrayList<ArrayList<C>>(col.size());
 		for (Set<C> set : col) {
-			// insert sorted set to tree
-			insert(set);
+			ArrayList<C> setList = new ArrayList<C>(set);
+			Collections.sort(setList);
+			setLists.add(setList);
+		}
+		// sort sets lexicographically
+		Collections.sort(setLists, UBTree::compareLexicographically);
+
+		// nodes on the path of the previously added set
+		ArrayList<UBTreeNode<C>> path = new ArrayList<UBTreeNode<C>>();
+		for (ArrayList<C> setList : setLists) {
+			int setSize = setList.size();
+			// determine length of prefix shared with previous set
+			int common = 0;
+			while (common < path.size() && common < setSize
+					&& path.get(common).element.compareTo(setList.get(common)) == 0) {
+				common++;
+			}
+			// nodes of previous path that are not shared do not get any further children
+			while (path.size() > common) {
+				path.remove(path.size() - 1).updateFromChildren();
+			}
+			// append nodes for remaining elements
+			ArrayList<UBTreeNode<C>> tree = common == 0 ? this.T : path.get(common - 1).children;
+			for (int i = common; i < setSize; i++) {
+				UBTreeNode<C> node = new UBTreeNode<C>(setList.get(i));
+				tree.add(node);
+				path.add(node);
+				tree = node.children;
+			}
+			// mark last node as end of path
+			if (setSize > 0) {
+				path.get(setSize - 1).endOfPath = true;
+			} else {
+				containsEmptySet = true;
+			}
+		}
+		// determine distances for remaining path (bottom-up)
+		while (!path.isEmpty()) {
+			path.remove(path.size() - 1).updateFromChildren();
+		}
+	}
+
+	/**
+	 * Construct a UBTree that contains the sets of the given collection
+	 * 
+	 * @param col           A {@link Collection} of {@link Set} elements
+	 * @param useSignatures A {@code boolean} stating whether the signatures of
+	 *                      the nodes are used to prune subtrees during a
+	 *                      minimality check
+	 * @see #UBTree(Collection)
+	 */
+	public UBTree(Collection<Set<C>> col, boolean useSignatures) {
+		this(col);
+		this.useSignatures = useSignatures;
+	}
+
+	/**
+	 * Compare two sorted lists lexicographically, where a list is smaller than
+	 * every longer list it is a prefix of
+	 * 
+	 * @param list1 A sorted {@link ArrayList}
+	 * @param list2 A sorted {@link ArrayList}
+	 * @return A negative {@code int}, zero, or a positive {@code int} if
+	 *         {@code list1} is less than, equal to, or greater than {@code list2}
+	 */
+	static <C extends Comparable<C>> int compareLexicographically(ArrayList<C> list1, ArrayList<C> list2) {
+		int len = Math.min(list1.size(), list2.size());
+		for (int i = 0; i < len; i++) {
+			int cmp = list1.get(i).compareTo(list2.get(i));
+			if (cmp != 0) {
+				return cmp;
+			}
 		}
-		// sort nodes
-		Collections.sort(T);
+		return Integer.compare(list1.size(), list2.size());
 	}
 
 	/**
@@ -48,42 +152,65 @@ public class UBTree<C extends Comparable<C>> {
 		ArrayList<C> setList = new ArrayList<>(set);
 		// sort set
 		Collections.sort(setList);
+		insert(setList);
+	}
+
+	/**
+	 * Insert a sorted set into the UBTree
+	 * 
+	 * @param setList A sorted {@link ArrayList} representing a set
+	 */
+	private void insert(ArrayList<C> setList) {
+		if (setList.isEmpty()) {
+			containsEmptySet = true;
+			return;
+		}
 		// initialize currently regarded tree
 		ArrayList<UBTreeNode<C>> tree = this.T;
 		// currently regarded node
 		UBTreeNode<C> curNode = null;
 		// current element of set
 		C elem;
-		// states if element is already present in tree
-		boolean found;
 
 		// number of remaining set elements
 		int remain = setList.size();
+		// signatures of the remaining elements after each index
+		long[] suffixSignatures = suffixSignatures(setList);
+		// last element of the set
+		C last = setList.get(setList.size() - 1);
 		Iterator<C> iter = setList.iterator();
 		// insert each element
 		while (iter.hasNext()) {
 			// get current element
 			elem = iter.next();
 			remain--;
-			// look if element already present
-			found = false;
+			// elements of the set on the path from the current node
+			long pathSignature = suffixSignatures[setList.size() - remain - 1];
 
 			// look for node with set element
-			int i = Collections.binarySearch(tree, new UBTreeNode<C>(elem));
+			int i = indexOf(tree, elem);
 			if (i > -1) {
 				curNode = tree.get(i);
 				// adapt distance to next EOP if necessary
 				if (curNode.distanceToNextEOP > remain) {
 					curNode.distanceToNextEOP = remain;
 				}
-				found = true;
-			}
-
-
-			// introduce new node if element not found
-			if (!found) {
+				// keep only elements that are shared with the new set
+				curNode.signature &= pathSignature;
+				// adapt element bounds if necessary
+				if (curNode.minEnd.compareTo(last) > 0) {
+					curNode.minEnd = last;
+				}
+				if (curNode.maxElement.compareTo(last) < 0) {
+					curNode.maxElement = last;
+				}
+			} else {
+				// introduce new node at insertion point to keep nodes sorted
 				curNode = new UBTreeNode<C>(elem, remain);
-				tree.add(curNode);
+				curNode.signature = pathSignature;
+				curNode.minEnd = last;
+				curNode.maxElement = last;
+				tree.add(-i - 1, curNode);
 			}
 			// consider children of current node
 			tree = curNode.children;
@@ -92,6 +219,64 @@ public class UBTree<C extends Comparable<C>> {
 		curNode.endOfPath = true;
 	}
 
+	/**
+	 * Remove a {@link Set} from the UBTree
+	 * 
+	 * <p>
+	 * Nodes that do not lead to any other set afterwards are removed as well, and
+	 * the distances to the next end-of-path node are only updated along the path
+	 * of the set
+	 * </p>
+	 * 
+	 * @param set A {@link Set}
+	 * @return {@code true} if {@code set} was contained in the UBTree, otherwise
+	 *         {@code false}
+	 */
+	public boolean remove(Set<C> set) {
+		if (set.isEmpty()) {
+			boolean contained = containsEmptySet;
+			containsEmptySet = false;
+			return contained;
+		}
+		ArrayList<C> setList = new ArrayList<>(set);
+		// sort set
+		Collections.sort(setList);
+
+		// determine nodes on path of set
+		ArrayList<UBTreeNode<C>> path = new ArrayList<UBTreeNode<C>>(setList.size());
+		ArrayList<UBTreeNode<C>> tree = this.T;
+		for (C elem : setList) {
+			int i = indexOf(tree, elem);
+			if (i < 0) {
+				// set not contained
+				return false;
+			}
+			UBTreeNode<C> node = tree.get(i);
+			path.add(node);
+			tree = node.children;
+		}
+		if (path.isEmpty() || !path.get(path.size() - 1).endOfPath) {
+			// set not contained
+			return false;
+		}
+		// remove end-of-path marker
+		path.get(path.size() - 1).endOfPath = false;
+
+		// update path bottom-up
+		for (int k = path.size() - 1; k >= 0; k--) {
+			UBTreeNode<C> node = path.get(k);
+			if (!node.endOfPath && node.children.isEmpty()) {
+				// node does not lead to any set anymore
+				ArrayList<UBTreeNode<C>> parentTree = k == 0 ? this.T : path.get(k - 1).children;
+				parentTree.remove(indexOf(parentTree, node.element));
+			} else if (!node.updateFromChildren()) {
+				// distances of remaining nodes are not affected
+				break;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Get all subsets of a given set that occur in a list of {@link UBTreeNode}
 	 * objects
@@ -115,12 +300,12 @@ public class UBTree<C extends Comparable<C>> {
 			remainSetSize--;
 
 			// look for node with set element
-			int i = Collections.binarySearch(treeNodes, new UBTreeNode<C>(setElem));
+			int i = indexOf(treeNodes, setElem);
 			if (i > -1) {
 				UBTreeNode<C> node = treeNodes.get(i);
 				// only consider node if distance to next end-of-path marker is not greater than
-				// number of remaining elements
-				if (node.distanceToNextEOP <= remainSetSize) {
+				// number of remaining elements and some of its sets end within the set
+				if (node.distanceToNextEOP <= remainSetSize && node.minEnd.compareTo(set.get(setSize - 1)) <= 0) {
 					if (node.endOfPath) {
 						// subset found
 						subsets.add(getSet(node));
@@ -136,6 +321,452 @@ public class UBTree<C extends Comparable<C>> {
 		return subsets;
 	}
 
+	/**
+	 * Check if any of the sets represented by a list of {@link UBTreeNode} objects
+	 * is a subset of the given set
+	 * 
+	 * <p>
+	 * In contrast to {@link #lookup_subs}, the search stops at the first
+	 * end-of-path node reached and no objects are allocated
+	 * </p>
+	 * 
+	 * @param treeNodes  A sorted {@link ArrayList} of {@link UBTreeNode} objects
+	 * @param set        A sorted {@link ArrayList}
+	 * @param startIndex An {@code int} stating the index starting from which the
+	 *                   set elements are considered
+	 * @return {@code true} if {@code treeNodes} contain a subset of {@code set},
+	 *         otherwise {@code false}
+	 */
+	public boolean containsSubsetOf(ArrayList<UBTreeNode<C>> treeNodes, ArrayList<C> set, int startIndex) {
+		int setSize = set.size();
+		int remainSetSize = setSize - startIndex;
+		// find all nodes with a related set element
+		for (int index = startIndex; index < setSize; index++) {
+			remainSetSize--;
+
+			// look for node with set element
+			int i = indexOf(treeNodes, set.get(index));
+			if (UBTreeMetrics.ENABLED) {
+				queryMetrics.binarySearches++;
+			}
+			if (i > -1) {
+				UBTreeNode<C> node = treeNodes.get(i);
+				if (UBTreeMetrics.ENABLED) {
+					queryMetrics.nodesVisited++;
+				}
+				// only consider node if distance to next end-of-path marker is not greater than
+				// number of remaining elements
+				if (node.distanceToNextEOP > remainSetSize) {
+					if (UBTreeMetrics.ENABLED) {
+						queryMetrics.distancePruned++;
+					}
+				} else if (node.minEnd.compareTo(set.get(setSize - 1)) > 0) {
+					// all sets of node end after greatest set element
+					if (UBTreeMetrics.ENABLED) {
+						queryMetrics.endPruned++;
+					}
+				} else {
+					if (node.endOfPath) {
+						// subset found
+						if (UBTreeMetrics.ENABLED) {
+							queryMetrics.eopHits++;
+						}
+						return true;
+					}
+					// consider children of node with remaining set elements
+					if (UBTreeMetrics.ENABLED) {
+						queryMetrics.descend();
+					}
+					boolean found = containsSubsetOf(node.children, set, index + 1);
+					if (UBTreeMetrics.ENABLED) {
+						queryMetrics.ascend();
+					}
+					if (found) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Get all sets represented by a list of {@link UBTreeNode} objects that are
+	 * supersets of the given set
+	 * 
+	 * @param treeNodes A sorted {@link ArrayList} of {@link UBTreeNode} objects
+	 * @param set       A sorted {@link ArrayList}
+	 * @param index     An {@code int} stating the index of the next set element
+	 *                  that still needs to be found on the path
+	 * @param path      An {@link ArrayList} containing the elements of the path
+	 *                  leading to {@code treeNodes}
+	 * @param supersets A {@link Collection} to which the found supersets are added
+	 */
+	private void lookup_supersets(ArrayList<UBTreeNode<C>> treeNodes, ArrayList<C> set, int index,
+			ArrayList<C> path, Collection<Set<C>> supersets) {
+		int setSize = set.size();
+		// only nodes not greater than the next set element may lead to it (all nodes if
+		// every set element has been found already)
+		int matchIndex = -1;
+		int end = treeNodes.size();
+		if (index < setSize) {
+			matchIndex = indexOf(treeNodes, set.get(index));
+			end = matchIndex > -1 ? matchIndex + 1 : -matchIndex - 1;
+		}
+		for (int k = 0; k < end; k++) {
+			UBTreeNode<C> node = treeNodes.get(k);
+			int nextIndex = k == matchIndex ? index + 1 : index;
+			if (nextIndex < setSize && node.maxElement.compareTo(set.get(setSize - 1)) < 0) {
+				// sets of node do not reach greatest set element
+				if (UBTreeMetrics.ENABLED) {
+					metrics.maxElementPruned++;
+				}
+				continue;
+			}
+			path.add(node.element);
+			if (node.endOfPath && nextIndex == setSize) {
+				// superset found
+				supersets.add(new HashSet<C>(path));
+			}
+			// consider children of node
+			lookup_supersets(node.children, set, nextIndex, path, supersets);
+			path.remove(path.size() - 1);
+		}
+	}
+
+	/**
+	 * Get all sets represented by this UBTree that are supersets of the given
+	 * {@link Set}
+	 * 
+	 * @param set A {@link Set} with elements of {@link Comparable} type {@code C}
+	 * @return A {@link Collection} containing all the supersets of {@code set}
+	 *         (including {@code set} itself, if present)
+	 */
+	public Collection<Set<C>> lookup_supersets(Set<C> set) {
+		// sort set
+		ArrayList<C> setList = new ArrayList<C>(set);
+		Collections.sort(setList);
+		// collection for supersets
+		Collection<Set<C>> supersets = new ArrayList<Set<C>>();
+		if (containsEmptySet && setList.isEmpty()) {
+			supersets.add(new HashSet<C>());
+		}
+		lookup_supersets(this.T, setList, 0, new ArrayList<C>(), supersets);
+		return supersets;
+	}
+
+	/**
+	 * Remove all sets represented by a list of {@link UBTreeNode} objects that are
+	 * supersets of the given set, together with the nodes that do not lead to any
+	 * other set anymore
+	 * 
+	 * @param treeNodes A sorted {@link ArrayList} of {@link UBTreeNode} objects
+	 * @param set       A sorted {@link ArrayList}
+	 * @param index     An {@code int} stating the index of the next set element
+	 *                  that still needs to be found on the path
+	 * @return {@code true} if any set has been removed, otherwise {@code false}
+	 */
+	private boolean removeSupersets(ArrayList<UBTreeNode<C>> treeNodes, ArrayList<C> set, int index) {
+		int setSize = set.size();
+		boolean removed = false;
+		// only nodes not greater than the next set element may lead to it
+		int matchIndex = indexOf(treeNodes, set.get(index));
+		int end = matchIndex > -1 ? matchIndex + 1 : -matchIndex - 1;
+		// go backwards, so that removing a node does not affect remaining indices
+		for (int k = end - 1; k >= 0; k--) {
+			UBTreeNode<C> node = treeNodes.get(k);
+			if (k == matchIndex && index + 1 == setSize) {
+				// every set below node is a superset
+				treeNodes.remove(k);
+				removed = true;
+			} else if (node.maxElement.compareTo(set.get(setSize - 1)) < 0) {
+				// sets of node do not reach greatest set element
+				continue;
+			} else if (removeSupersets(node.children, set, k == matchIndex ? index + 1 : index)) {
+				removed = true;
+				if (!node.endOfPath && node.children.isEmpty()) {
+					// node does not lead to any set anymore
+					treeNodes.remove(k);
+				} else {
+					node.updateFromChildren();
+				}
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Insert a {@link Set} into the UBTree if it is minimal w.r.t. the sets
+	 * represented by this UBTree, whereby all represented supersets of it are
+	 * removed
+	 * 
+	 * <p>
+	 * In this way, the UBTree only contains minimal sets, provided that all sets
+	 * are added by this method
+	 * </p>
+	 * 
+	 * <p>
+	 * The subset check, the removal of supersets and the insertion are separate
+	 * traversals: the check mostly ends early for non-minimal sets, the removal
+	 * visits the nodes preceding the set elements instead of those matching them,
+	 * and the insertion only follows the path of the set
+	 * </p>
+	 * 
+	 * @param set A {@link Set}, where the empty set replaces all other sets
+	 * @return {@code true} if {@code set} has been inserted, otherwise (i.e. if a
+	 *         subset of it is already present) {@code false}
+	 */
+	public boolean insertIfMinimal(Set<C> set) {
+		if (containsEmptySet) {
+			// every set is a superset of the empty set
+			return false;
+		}
+		if (set.isEmpty()) {
+			// all sets are supersets of the empty set
+			T.clear();
+			containsEmptySet = true;
+			return true;
+		}
+		// sort set
+		ArrayList<C> setList = new ArrayList<C>(set);
+		Collections.sort(setList);
+		if (containsSubsetOf(this.T, setList, 0)) {
+			// set is not minimal
+			return false;
+		}
+		removeSupersets(this.T, setList, 0);
+		insert(setList);
+		return true;
+	}
+
+	/**
+	 * Check if the sets below a node may contain a subset of the remaining
+	 * elements of a set, which applies the same bounds as the sequential search
+	 * 
+	 * @param node             A {@link UBTreeNode}
+	 * @param remainSetSize    An {@code int} defining the number of set elements
+	 *                         after the element of {@code node}
+	 * @param greatest         The greatest element of the set
+	 * @param suffixSignatures A {@code long[]} with the signatures of the suffixes
+	 *                         of the set, or {@code null} if signatures are not
+	 *                         used
+	 * @param index            An {@code int} stating the index of the element of
+	 *                         {@code node} in the set
+	 * @return {@code false} if no set below {@code node} can be a subset,
+	 *         otherwise {@code true}
+	 */
+	private boolean mayContainSubset(UBTreeNode<C> node, int remainSetSize, C greatest, long[] suffixSignatures,
+			int index) {
+		// distance to next end-of-path marker must not be greater than number of
+		// remaining elements, some set of node has to end before greatest element and
+		// all elements shared by its sets may be contained in the remaining elements
+		return node.distanceToNextEOP <= remainSetSize && node.minEnd.compareTo(greatest) <= 0
+				&& (suffixSignatures == null || (node.signature & ~suffixSignatures[index]) == 0);
+	}
+
+	/**
+	 * Check if any of the sets represented by a list of {@link UBTreeNode} objects
+	 * is a subset of the given set, where only a range of start indices is
+	 * considered for the given nodes and the search is aborted once another task
+	 * has found a subset
+	 * 
+	 * @param treeNodes  A sorted {@link ArrayList} of {@link UBTreeNode} objects
+	 * @param set              A sorted {@link ArrayList}
+	 * @param suffixSignatures A {@code long[]} with the signatures of the suffixes
+	 *                         of {@code set}, or {@code null} if signatures are
+	 *                         not used
+	 * @param startIndex       An {@code int} stating the index starting from which
+	 *                         the set elements are considered
+	 * @param endIndex         An {@code int} stating the index before which the
+	 *                         set elements are considered for {@code treeNodes}
+	 *                         (while the children are searched with all remaining
+	 *                         elements)
+	 * @param found            An {@link AtomicBoolean} that is {@code true} if a
+	 *                         subset has been found by any task
+	 * @return {@code true} if {@code treeNodes} contain a subset of {@code set},
+	 *         otherwise {@code false} (also if the search has been aborted)
+	 */
+	private boolean containsSubsetOf(ArrayList<UBTreeNode<C>> treeNodes, ArrayList<C> set,
+			long[] suffixSignatures, int startIndex, int endIndex, AtomicBoolean found) {
+		int setSize = set.size();
+		C greatest = set.get(setSize - 1);
+		int remainSetSize = setSize - startIndex;
+		// find all nodes with a related set element
+		for (int index = startIndex; index < endIndex && !found.get(); index++) {
+			remainSetSize--;
+
+			// look for node with set element
+			int i = indexOf(treeNodes, set.get(index));
+			if (i > -1) {
+				UBTreeNode<C> node = treeNodes.get(i);
+				if (mayContainSubset(node, remainSetSize, greatest, suffixSignatures, index)) {
+					if (node.endOfPath) {
+						// subset found
+						return true;
+					}
+					// consider children of node with remaining set elements
+					if (containsSubsetOf(node.children, set, suffixSignatures, index + 1, setSize, found)) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * A task looking for a subset of a set in the UBTree, where only the set
+	 * elements within a range of start indices are considered for the root nodes
+	 *
+	 */
+	private class SubsetSearchTask extends RecursiveTask<Boolean> {
+
+		private static final long serialVersionUID = 1L;
+
+		// the sorted set for which a subset is searched
+		private final ArrayList<C> set;
+		// the signatures of the suffixes of the set (null if not used)
+		private final long[] suffixSignatures;
+		// the range of considered start indices
+		private final int startIndex;
+		private final int endIndex;
+		// shared flag stating that a subset has been found
+		private final AtomicBoolean found;
+
+		SubsetSearchTask(ArrayList<C> set, long[] suffixSignatures, int startIndex, int endIndex,
+				AtomicBoolean found) {
+			this.set = set;
+			this.suffixSignatures = suffixSignatures;
+			this.startIndex = startIndex;
+			this.endIndex = endIndex;
+			this.found = found;
+		}
+
+		@Override
+		protected Boolean compute() {
+			if (endIndex - startIndex <= PARALLEL_THRESHOLD) {
+				// search sequentially
+				if (containsSubsetOf(T, set, suffixSignatures, startIndex, endIndex, found)) {
+					found.set(true);
+					return true;
+				}
+				return false;
+			}
+			// split range of start indices
+			int mid = (startIndex + endIndex) >>> 1;
+			SubsetSearchTask left = new SubsetSearchTask(set, suffixSignatures, startIndex, mid, found);
+			SubsetSearchTask right = new SubsetSearchTask(set, suffixSignatures, mid, endIndex, found);
+			left.fork();
+			if (right.compute()) {
+				// result of other task not needed anymore
+				left.cancel(false);
+				return true;
+			}
+			return left.join();
+		}
+
+	}
+
+	/**
+	 * Check if a given given {@link Set} is minimal w.r.t. the sets represented by
+	 * this UBTree, where large sets are searched in parallel tasks of the common
+	 * {@link ForkJoinPool}
+	 * 
+	 * @param testSet A {@link Set} with elements of {@link Comparable} type
+	 *                {@code C}
+	 * @return {@code true} if the UBTree does not contain any subset of
+	 *         {@code testSet}, otherwise {@code false}
+	 * @see #checkMinimalParallel(Set, ForkJoinPool)
+	 */
+	public boolean checkMinimalParallel(Set<C> testSet) {
+		return checkMinimalParallel(testSet, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Check if a given given {@link Set} is minimal w.r.t. the sets represented by
+	 * this UBTree, where large sets are searched in parallel tasks
+	 * 
+	 * <p>
+	 * The start indices of the sorted test set are split into tasks of at most
+	 * {@code PARALLEL_THRESHOLD} indices each, and all tasks are stopped as soon
+	 * as one of them has found a subset. Smaller test sets are checked
+	 * sequentially.
+	 * </p>
+	 * 
+	 * <p>
+	 * Note: The UBTree must not be modified during the check
+	 * </p>
+	 * 
+	 * @param testSet A {@link Set} with elements of {@link Comparable} type
+	 *                {@code C}
+	 * @param pool    A {@link ForkJoinPool} executing the tasks
+	 * @return {@code true} if the UBTree does not contain any subset of
+	 *         {@code testSet}, otherwise {@code false}
+	 */
+	public boolean checkMinimalParallel(Set<C> testSet, ForkJoinPool pool) {
+		// sort set
+		ArrayList<C> set = new ArrayList<C>(testSet);
+		Collections.sort(set);
+		if (containsEmptySet) {
+			return false;
+		}
+		long[] suffixSignatures = useSignatures ? suffixSignatures(set) : null;
+		if (set.size() <= PARALLEL_THRESHOLD) {
+			// not worth splitting
+			return !(useSignatures ? containsSubsetOf(this.T, set, suffixSignatures, 0)
+					: containsSubsetOf(this.T, set, 0));
+		}
+		// set is only minimal w.r.t. collection if no subsets could be found
+		return !pool.invoke(new SubsetSearchTask(set, suffixSignatures, 0, set.size(), new AtomicBoolean()));
+	}
+
+	/**
+	 * Get the counters of the last minimality check
+	 * 
+	 * @return A {@link UBTreeMetrics} object that is reused by the next check
+	 * @see UBTreeMetrics#ENABLED
+	 */
+	public UBTreeMetrics getQueryMetrics() {
+		return queryMetrics;
+	}
+
+	/**
+	 * Get the counters of all minimality checks and superset lookups since the
+	 * last call of {@link UBTreeMetrics#reset()} on them
+	 * 
+	 * @return A {@link UBTreeMetrics} object
+	 * @see UBTreeMetrics#ENABLED
+	 */
+	public UBTreeMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Look for the node with the given element by means of a binary search
+	 * 
+	 * @param treeNodes A sorted {@link ArrayList} of {@link UBTreeNode} objects
+	 * @param elem      An element of type {@code C}
+	 * @return The index of the node for {@code elem}, if present, otherwise
+	 *         {@code (-(insertion point) - 1)}
+	 * @see Collections#binarySearch(java.util.List, Object)
+	 */
+	static <C extends Comparable<C>> int indexOf(ArrayList<UBTreeNode<C>> treeNodes, C elem) {
+		int low = 0;
+		int high = treeNodes.size() - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int cmp = treeNodes.get(mid).element.compareTo(elem);
+			if (cmp < 0) {
+				low = mid + 1;
+			} else if (cmp > 0) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(low + 1);
+	}
+
 	/**
 	 * Get the original set that is defined by the tree path ending with the given
 	 * node
@@ -158,6 +789,88 @@ public class UBTree<C extends Comparable<C>> {
 		return set;
 	}
 
+	/**
+	 * Determine the signatures of all suffixes of a sorted set
+	 * 
+	 * @param set A sorted {@link ArrayList}
+	 * @return A {@code long[]} whose entry at index {@code i} is the signature of
+	 *         the set elements starting from index {@code i} (followed by an empty
+	 *         signature)
+	 */
+	static <C> long[] suffixSignatures(ArrayList<C> set) {
+		long[] signatures = new long[set.size() + 1];
+		for (int i = set.size() - 1; i >= 0; i--) {
+			signatures[i] = signatures[i + 1] | UBTreeNode.signatureOf(set.get(i));
+		}
+		return signatures;
+	}
+
+	/**
+	 * Check if any of the sets represented by a list of {@link UBTreeNode} objects
+	 * is a subset of the given set, where nodes are skipped whose signature
+	 * contains elements that do not occur among the remaining set elements
+	 * 
+	 * @param treeNodes        A sorted {@link ArrayList} of {@link UBTreeNode}
+	 *                         objects
+	 * @param set              A sorted {@link ArrayList}
+	 * @param suffixSignatures A {@code long[]} with the signatures of the suffixes
+	 *                         of {@code set}
+	 * @param startIndex       An {@code int} stating the index starting from which
+	 *                         the set elements are considered
+	 * @return {@code true} if {@code treeNodes} contain a subset of {@code set},
+	 *         otherwise {@code false}
+	 * @see #suffixSignatures(ArrayList)
+	 */
+	private boolean containsSubsetOf(ArrayList<UBTreeNode<C>> treeNodes, ArrayList<C> set,
+			long[] suffixSignatures, int startIndex) {
+		int setSize = set.size();
+		int remainSetSize = setSize - startIndex;
+		// find all nodes with a related set element
+		for (int index = startIndex; index < setSize; index++) {
+			remainSetSize--;
+
+			// look for node with set element
+			int i = indexOf(treeNodes, set.get(index));
+			if (UBTreeMetrics.ENABLED) {
+				queryMetrics.binarySearches++;
+			}
+			if (i > -1) {
+				UBTreeNode<C> node = treeNodes.get(i);
+				if (UBTreeMetrics.ENABLED) {
+					queryMetrics.nodesVisited++;
+				}
+				// only consider node if distance to next end-of-path marker is not greater than
+				// number of remaining elements and all elements shared by its sets may be
+				// contained in the remaining elements
+				if (node.distanceToNextEOP > remainSetSize) {
+					if (UBTreeMetrics.ENABLED) {
+						queryMetrics.distancePruned++;
+					}
+				} else if ((node.signature & ~suffixSignatures[index]) == 0) {
+					if (node.endOfPath) {
+						// subset found
+						if (UBTreeMetrics.ENABLED) {
+							queryMetrics.eopHits++;
+						}
+						return true;
+					}
+					// consider children of node with remaining set elements
+					if (UBTreeMetrics.ENABLED) {
+						queryMetrics.descend();
+					}
+					boolean found = containsSubsetOf(node.children, set, suffixSignatures, index + 1);
+					if (UBTreeMetrics.ENABLED) {
+						queryMetrics.ascend();
+					}
+					if (found) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Check if a given given {@link Set} is minimal w.r.t. the sets represented by
 	 * this UBTree
@@ -171,12 +884,202 @@ public class UBTree<C extends Comparable<C>> {
 		// sort set
 		ArrayList<C> set = new ArrayList<C>(testSet);
 		Collections.sort(set);
-		// look for subsets subsets
-		Collection<Set<C>> subsets = lookup_subs(this.T, set, 0);
-
+		UBTreeQueryEvent event = null;
+		if (UBTreeMetrics.ENABLED) {
+			queryMetrics.reset();
+			queryMetrics.startQuery();
+			event = new UBTreeQueryEvent();
+			event.begin();
+		}
 		// set is only minimal w.r.t. collection if no subsets could be found
-		return subsets.isEmpty();
+		boolean minimal = !containsEmptySet && !(useSignatures ? containsSubsetOf(this.T, set, suffixSignatures(set), 0)
+				: containsSubsetOf(this.T, set, 0));
+		if (UBTreeMetrics.ENABLED) {
+			metrics.add(queryMetrics);
+			event.commit(queryMetrics, set.size(), minimal);
+		}
+		return minimal;
+	}
+
+	/**
+	 * Check for each of the given sets if it is minimal w.r.t. the sets
+	 * represented by this UBTree, where the tree is traversed only once for the
+	 * whole batch
+	 * 
+	 * <p>
+	 * The sets are sorted lexicographically so that equal sets are only checked
+	 * once. At each node, all sets whose remaining elements lead to the same child
+	 * are passed on together, so every node is visited at most once per batch
+	 * instead of once per set. Sets for which a subset has already been found are
+	 * not considered any further.
+	 * </p>
+	 * 
+	 * @param testSets A {@link List} of {@link Set} elements with elements of
+	 *                 {@link Comparable} type {@code C}
+	 * @return A {@link BitSet} in which the bit at index {@code i} is set if the
+	 *         UBTree does not contain any subset of {@code testSets.get(i)}
+	 */
+	public BitSet checkMinimalBatch(List<Set<C>> testSets) {
+		int setNr = testSets.size();
+		// sort elements of each set
+		ArrayList<ArrayList<C>> sets = new ArrayList<ArrayList<C>>(setNr);
+		for (Set<C> testSet : testSets) {
+			ArrayList<C> set = new ArrayList<C>(testSet);
+			Collections.sort(set);
+			sets.add(set);
+		}
+		// sort sets lexicographically
+		Integer[] order = new Integer[setNr];
+		for (int q = 0; q < setNr; q++) {
+			order[q] = q;
+		}
+		Arrays.sort(order, (q1, q2) -> compareLexicographically(sets.get(q1), sets.get(q2)));
+		// only check first of equal sets
+		int[] queries = new int[setNr];
+		int[] representative = new int[setNr];
+		int queryNr = 0;
+		for (int q : order) {
+			if (queryNr > 0 && compareLexicographically(sets.get(q), sets.get(queries[queryNr - 1])) == 0) {
+				representative[q] = queries[queryNr - 1];
+			} else {
+				queries[queryNr++] = q;
+				representative[q] = q;
+			}
+		}
+
+		// signatures of the suffixes of each set
+		long[][] suffixSignatures = null;
+		if (useSignatures) {
+			suffixSignatures = new long[setNr][];
+			for (int k = 0; k < queryNr; k++) {
+				suffixSignatures[queries[k]] = suffixSignatures(sets.get(queries[k]));
+			}
+		}
+
+		// look for subsets of all sets at once
+		BitSet nonMinimal = new BitSet(setNr);
+		containsSubsetOf(this.T, sets, suffixSignatures, queries, new int[queryNr], queryNr, nonMinimal);
+
+		// sets are only minimal if no subsets could be found
+		BitSet minimal = new BitSet(setNr);
+		if (containsEmptySet) {
+			return minimal;
+		}
+		for (int q = 0; q < setNr; q++) {
+			if (!nonMinimal.get(representative[q])) {
+				minimal.set(q);
+			}
+		}
+		return minimal;
+	}
+
+	/**
+	 * Check for several sets if any of the sets represented by a list of
+	 * {@link UBTreeNode} objects is a subset of them
+	 * 
+	 * @param treeNodes        A sorted {@link ArrayList} of {@link UBTreeNode}
+	 *                         objects
+	 * @param sets             An {@link ArrayList} of sorted {@link ArrayList}
+	 *                         elements
+	 * @param suffixSignatures A {@code long[][]} with the signatures of the
+	 *                         suffixes of each set in {@code sets}, or
+	 *                         {@code null} if signatures are not used
+	 * @param queries          An {@code int[]} with the indices of the considered
+	 *                         sets in {@code sets}
+	 * @param startIndex       An {@code int[]} stating for each considered set the
+	 *                         index starting from which its elements are
+	 *                         considered
+	 * @param queryNr          An {@code int} defining the number of considered
+	 *                         sets
+	 * @param found            A {@link BitSet} in which the indices of all sets
+	 *                         are marked for which a subset has been found
+	 */
+	private void containsSubsetOf(ArrayList<UBTreeNode<C>> treeNodes, ArrayList<ArrayList<C>> sets,
+			long[][] suffixSignatures, int[] queries, int[] startIndex, int queryNr, BitSet found) {
+		// reached nodes as (node index << 32 | hit index) together with the related set
+		// and its next start index
+		long[] hits = new long[queryNr];
+		int[] hitQueries = new int[queryNr];
+		int[] hitStarts = new int[queryNr];
+		int hitNr = 0;
 
+		for (int k = 0; k < queryNr; k++) {
+			int q = queries[k];
+			ArrayList<C> set = sets.get(q);
+			int setSize = set.size();
+			if (startIndex[k] == setSize) {
+				// no remaining elements
+				continue;
+			}
+			C greatest = set.get(setSize - 1);
+			long[] setSignatures = suffixSignatures == null ? null : suffixSignatures[q];
+			int remainSetSize = setSize - startIndex[k];
+			// find all nodes with a related set element
+			for (int index = startIndex[k]; index < setSize; index++) {
+				remainSetSize--;
+
+				// look for node with set element
+				int i = indexOf(treeNodes, set.get(index));
+				if (i > -1) {
+					UBTreeNode<C> node = treeNodes.get(i);
+					if (mayContainSubset(node, remainSetSize, greatest, setSignatures, index)) {
+						if (node.endOfPath) {
+							// subset found
+							found.set(q);
+							break;
+						}
+						// remember to consider children of node with remaining set elements
+						if (hitNr == hits.length) {
+							hits = Arrays.copyOf(hits, 2 * hitNr);
+							hitQueries = Arrays.copyOf(hitQueries, 2 * hitNr);
+							hitStarts = Arrays.copyOf(hitStarts, 2 * hitNr);
+						}
+						hits[hitNr] = (long) i << 32 | hitNr;
+						hitQueries[hitNr] = q;
+						hitStarts[hitNr] = index + 1;
+						hitNr++;
+					}
+				}
+			}
+		}
+
+		// group sets by reached node
+		Arrays.sort(hits, 0, hitNr);
+		int[] nodeQueries = new int[hitNr];
+		int[] nodeStarts = new int[hitNr];
+		int from = 0;
+		while (from < hitNr) {
+			int i = (int) (hits[from] >>> 32);
+			int nodeQueryNr = 0;
+			for (; from < hitNr && (int) (hits[from] >>> 32) == i; from++) {
+				int hit = (int) hits[from];
+				// ignore sets for which a subset has already been found
+				if (!found.get(hitQueries[hit])) {
+					nodeQueries[nodeQueryNr] = hitQueries[hit];
+					nodeStarts[nodeQueryNr] = hitStarts[hit];
+					nodeQueryNr++;
+				}
+			}
+			// consider children of node with all related sets at once
+			if (nodeQueryNr > 0) {
+				containsSubsetOf(treeNodes.get(i).children, sets, suffixSignatures, nodeQueries, nodeStarts,
+						nodeQueryNr, found);
+			}
+		}
+	}
+
+	/**
+	 * Compile this UBTree into an immutable {@link FrozenUBTree} that stores its
+	 * nodes in contiguous arrays
+	 * 
+	 * <p>
+	 * Note: Later changes of this UBTree are not reflected by the returned tree
+	 * </p>
+	 * 
+	 * @return A {@link FrozenUBTree} containing the same sets as this UBTree
+	 */
+	public FrozenUBTree<C> freeze() {
+		return new FrozenUBTree<C>(this);
 	}
 
 }
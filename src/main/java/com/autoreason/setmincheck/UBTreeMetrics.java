@@ -0,0 +1,160 @@
+package com.autoreason.setmincheck;
+
+/**
+ * Counters describing the work done by the minimality checks and superset
+ * lookups of a {@link UBTree}, which are only collected if enabled by the
+ * system property {@code ubtree.metrics}
+ *
+ * <p>
+ * Since {@link #ENABLED} is a constant, the JIT compiler removes all code
+ * updating the counters if the metrics are disabled. The counters are not
+ * synchronized, so that they are only exact for sequential checks.
+ * </p>
+ *
+ */
+public class UBTreeMetrics {
+
+	/**
+	 * whether the metrics are collected, as enabled by the system property
+	 * {@code ubtree.metrics}
+	 */
+	public final static boolean ENABLED = Boolean.getBoolean("ubtree.metrics");
+
+	// number of minimality checks
+	long queries;
+	// number of nodes found for a set element
+	long nodesVisited;
+	// number of binary searches for set elements among sibling nodes
+	long binarySearches;
+	// number of nodes pruned by their distance to the next end-of-path node
+	long distancePruned;
+	// number of nodes pruned since all of their sets end after the greatest set
+	// element
+	long endPruned;
+	// number of nodes pruned by a superset lookup since none of their sets
+	// reaches the greatest set element
+	long maxElementPruned;
+	// number of end-of-path nodes reached, i.e. subsets found
+	long eopHits;
+	// maximum number of tree levels searched
+	int maxDepth;
+	// number of tree levels of the current search path
+	private int depth;
+
+	/**
+	 * Prepare the counters for a new minimality check
+	 */
+	void startQuery() {
+		queries++;
+		depth = 1;
+		maxDepth = Math.max(maxDepth, 1);
+	}
+
+	/**
+	 * Note that the search continues with the children of a node
+	 */
+	void descend() {
+		depth++;
+		maxDepth = Math.max(maxDepth, depth);
+	}
+
+	/**
+	 * Note that the search returns from the children of a node
+	 */
+	void ascend() {
+		depth--;
+	}
+
+	/**
+	 * Add the counters of other metrics to these metrics, where the maximum depth
+	 * is the maximum of both
+	 * 
+	 * @param other A {@link UBTreeMetrics} object
+	 */
+	public void add(UBTreeMetrics other) {
+		queries += other.queries;
+		nodesVisited += other.nodesVisited;
+		binarySearches += other.binarySearches;
+		distancePruned += other.distancePruned;
+		endPruned += other.endPruned;
+		maxElementPruned += other.maxElementPruned;
+		eopHits += other.eopHits;
+		maxDepth = Math.max(maxDepth, other.maxDepth);
+	}
+
+	/**
+	 * Set all counters to zero
+	 */
+	public void reset() {
+		queries = 0;
+		nodesVisited = 0;
+		binarySearches = 0;
+		distancePruned = 0;
+		endPruned = 0;
+		maxElementPruned = 0;
+		eopHits = 0;
+		maxDepth = 0;
+		depth = 0;
+	}
+
+	/**
+	 * @return A {@code long} defining the number of minimality checks
+	 */
+	public long getQueries() {
+		return queries;
+	}
+
+	/**
+	 * @return A {@code long} defining the number of nodes found for a set element
+	 */
+	public long getNodesVisited() {
+		return nodesVisited;
+	}
+
+	/**
+	 * @return A {@code long} defining the number of binary searches for set
+	 *         elements among sibling nodes
+	 */
+	public long getBinarySearches() {
+		return binarySearches;
+	}
+
+	/**
+	 * @return A {@code long} defining the number of nodes pruned by their distance
+	 *         to the next end-of-path node
+	 */
+	public long getDistancePruned() {
+		return distancePruned;
+	}
+
+	/**
+	 * @return A {@code long} defining the number of nodes pruned since all of
+	 *         their sets end after the greatest set element
+	 */
+	public long getEndPruned() {
+		return endPruned;
+	}
+
+	/**
+	 * @return A {@code long} defining the number of nodes pruned by a superset
+	 *         lookup since none of their sets reaches the greatest set element
+	 */
+	public long getMaxElementPruned() {
+		return maxElementPruned;
+	}
+
+	/**
+	 * @return A {@code long} defining the number of end-of-path nodes reached
+	 */
+	public long getEopHits() {
+		return eopHits;
+	}
+
+	/**
+	 * @return An {@code int} defining the maximum number of tree levels searched
+	 */
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+
+}
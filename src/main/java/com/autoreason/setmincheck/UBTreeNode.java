@@ -29,8 +29,28 @@ public class UBTreeNode<C extends Comparable<C>> implements Comparable<UBTreeNod
 	 */
 	int distanceToNextEOP;
 
+	/**
+	 * 64-bit signature of the elements that are shared by all sets whose path
+	 * passes through the node (starting with its element), where every element
+	 * sets the bit given by {@link #signatureOf(Object)}
+	 */
+	long signature;
+
+	/**
+	 * the smallest last element of all sets whose path passes through the node
+	 */
+	C minEnd;
+
+	/**
+	 * the greatest element of all sets whose path passes through the node
+	 */
+	C maxElement;
+
 	public UBTreeNode(C e) {
 		this.element = e;
+		this.signature = signatureOf(e);
+		this.minEnd = e;
+		this.maxElement = e;
 		this.children = new ArrayList<UBTreeNode<C>>();
 		this.endOfPath = false;
 		this.distanceToNextEOP = Integer.MAX_VALUE;
@@ -38,6 +58,9 @@ public class UBTreeNode<C extends Comparable<C>> implements Comparable<UBTreeNod
 
 	public UBTreeNode(C e, ArrayList<UBTreeNode<C>> ch) {
 		this.element = e;
+		this.signature = signatureOf(e);
+		this.minEnd = e;
+		this.maxElement = e;
 		Collections.sort(ch);
 		this.children = ch;
 		this.endOfPath = false;
@@ -46,6 +69,9 @@ public class UBTreeNode<C extends Comparable<C>> implements Comparable<UBTreeNod
 
 	public UBTreeNode(C e, boolean eop) {
 		this.element = e;
+		this.signature = signatureOf(e);
+		this.minEnd = e;
+		this.maxElement = e;
 		this.children = new ArrayList<UBTreeNode<C>>();
 		this.endOfPath = eop;
 		if (eop) {
@@ -57,6 +83,9 @@ public class UBTreeNode<C extends Comparable<C>> implements Comparable<UBTreeNod
 
 	public UBTreeNode(C e, int dist) {
 		this.element = e;
+		this.signature = signatureOf(e);
+		this.minEnd = e;
+		this.maxElement = e;
 		this.children = new ArrayList<UBTreeNode<C>>();
 		if (dist == 0) {
 			this.endOfPath = true;
@@ -66,6 +95,19 @@ public class UBTreeNode<C extends Comparable<C>> implements Comparable<UBTreeNod
 		this.distanceToNextEOP = dist;
 	}
 
+	/**
+	 * Get the signature bit of an element
+	 * 
+	 * @param elem An {@link Object}
+	 * @return A {@code long} with a single bit set, determined by the hash code of
+	 *         {@code elem}
+	 */
+	static long signatureOf(Object elem) {
+		int h = elem.hashCode();
+		// spread higher bits of hash code (only lowest 6 bits are used for shift)
+		return 1L << (h ^ (h >>> 6) ^ (h >>> 12) ^ (h >>> 18) ^ (h >>> 24));
+	}
+
 	@Override
 	public int compareTo(UBTreeNode<C> other) {
 		// use element for comparison (since method is used to sort members of an UBTree
@@ -108,4 +150,54 @@ public class UBTreeNode<C extends Comparable<C>> implements Comparable<UBTreeNod
 		return distanceToNextEOP;
 	}
 
+	/**
+	 * Update the distance to the next closest node that is marked as End-Of-Path,
+	 * the signature and the element bounds based on the current values of the
+	 * children (without descending further)
+	 * 
+	 * @return {@code true} if any of the values has changed, otherwise
+	 *         {@code false}
+	 */
+	boolean updateFromChildren() {
+		int dist;
+		long sig = signatureOf(element);
+		C end = element;
+		C max = element;
+		// get greatest element from children
+		for (UBTreeNode<C> child : children) {
+			if (child.maxElement.compareTo(max) > 0) {
+				max = child.maxElement;
+			}
+		}
+		if (endOfPath) {
+			dist = 0;
+		} else if (!children.isEmpty()) {
+			// get minimum distance, shared elements and smallest end from children
+			int minDistance = Integer.MAX_VALUE;
+			long shared = -1L;
+			end = children.get(0).minEnd;
+			for (UBTreeNode<C> child : children) {
+				if (minDistance > child.distanceToNextEOP) {
+					minDistance = child.distanceToNextEOP;
+				}
+				shared &= child.signature;
+				if (child.minEnd.compareTo(end) < 0) {
+					end = child.minEnd;
+				}
+			}
+			// one greater than child minimum (if any end-of-path node exists below)
+			dist = minDistance == Integer.MAX_VALUE ? Integer.MAX_VALUE : minDistance + 1;
+			sig |= shared;
+		} else {
+			dist = Integer.MAX_VALUE;
+		}
+		boolean changed = dist != distanceToNextEOP || sig != signature || end.compareTo(minEnd) != 0
+				|| max.compareTo(maxElement) != 0;
+		distanceToNextEOP = dist;
+		signature = sig;
+		minEnd = end;
+		maxElement = max;
+		return changed;
+	}
+
 }
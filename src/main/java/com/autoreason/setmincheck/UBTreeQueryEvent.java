@@ -0,0 +1,69 @@
+package com.autoreason.setmincheck;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for a minimality check of a {@link UBTree},
+ * which is only created if {@link UBTreeMetrics#ENABLED} is set
+ *
+ */
+@Name("com.autoreason.setmincheck.UBTreeQuery")
+@Label("UBTree Query")
+@Category("Set Minimality Checking")
+@Description("Minimality check of a set w.r.t. a UBTree")
+@StackTrace(false)
+class UBTreeQueryEvent extends Event {
+
+	@Label("Set Size")
+	int setSize;
+
+	@Label("Minimal")
+	boolean minimal;
+
+	@Label("Nodes Visited")
+	long nodesVisited;
+
+	@Label("Binary Searches")
+	long binarySearches;
+
+	@Label("Distance Pruned")
+	long distancePruned;
+
+	@Label("Min End Pruned")
+	long endPruned;
+
+	@Label("End-of-Path Hits")
+	long eopHits;
+
+	@Label("Max Depth")
+	int maxDepth;
+
+	/**
+	 * End the event and commit it with the counters of a single minimality check
+	 * if the event is enabled in the recording
+	 * 
+	 * @param metrics A {@link UBTreeMetrics} object with the counters of the check
+	 * @param setSize An {@code int} defining the size of the checked set
+	 * @param minimal A {@code boolean} stating the result of the check
+	 */
+	void commit(UBTreeMetrics metrics, int setSize, boolean minimal) {
+		end();
+		if (shouldCommit()) {
+			this.setSize = setSize;
+			this.minimal = minimal;
+			this.nodesVisited = metrics.nodesVisited;
+			this.binarySearches = metrics.binarySearches;
+			this.distancePruned = metrics.distancePruned;
+			this.endPruned = metrics.endPruned;
+			this.eopHits = metrics.eopHits;
+			this.maxDepth = metrics.maxDepth;
+			commit();
+		}
+	}
+
+}
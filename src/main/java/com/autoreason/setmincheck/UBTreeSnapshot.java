@@ -0,0 +1,146 @@
+package com.autoreason.setmincheck;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A binary snapshot format for an {@link UBTree} of {@link Integer} values,
+ * which can be memory-mapped to answer minimality checks without rebuilding
+ * the tree
+ *
+ * <p>
+ * The snapshot stores the layout of the related {@link FrozenUBTree} as a
+ * sequence of little-endian {@code int} values:
+ * </p>
+ * <ul>
+ * <li>the magic number {@link #MAGIC} and the format {@link #VERSION}</li>
+ * <li>the number {@code n} of nodes (including the virtual root)</li>
+ * <li>{@code n} elements of the nodes</li>
+ * <li>{@code n + 1} indices of the first child of each node</li>
+ * <li>{@code n} distances to the next end-of-path node</li>
+ * <li>{@code (n + 31) / 32} words with the end-of-path bits</li>
+ * </ul>
+ *
+ * @see MappedUBTree
+ */
+public class UBTreeSnapshot {
+
+	/**
+	 * the first {@code int} of every snapshot ("UBTS")
+	 */
+	final static int MAGIC = 0x55425453;
+
+	/**
+	 * the version of the snapshot format
+	 */
+	final static int VERSION = 1;
+
+	/**
+	 * the number of {@code int} values preceding the node data
+	 */
+	final static int HEADER_SIZE = 3;
+
+	/**
+	 * Write a snapshot of the given {@link UBTree} to a file
+	 *
+	 * @param tree An {@link UBTree} of {@link Integer} values
+	 * @param file A {@link Path} defining the file to which the snapshot is
+	 *             written
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(UBTree<Integer> tree, Path file) throws IOException {
+		FrozenUBTree<Integer> frozen = tree.freeze();
+		int nodeNr = frozen.size();
+		int eopWords = (nodeNr + 31) >>> 5;
+		long size = 4L * (HEADER_SIZE + 3L * nodeNr + 1 + eopWords);
+		if (size > Integer.MAX_VALUE) {
+			throw new IOException("UBTree too large for snapshot: " + nodeNr + " nodes");
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate((int) size)
+				.order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt(MAGIC);
+		buffer.putInt(VERSION);
+		buffer.putInt(nodeNr);
+		// elements (instead of their ranks)
+		buffer.putInt(0);
+		for (int i = 1; i < nodeNr; i++) {
+			buffer.putInt((Integer) frozen.dictionary[frozen.elements[i]]);
+		}
+		for (int start : frozen.childStart) {
+			buffer.putInt(start);
+		}
+		for (int dist : frozen.distanceToNextEOP) {
+			buffer.putInt(dist);
+		}
+		// end-of-path bits in 32-bit words
+		for (int w = 0; w < eopWords; w++) {
+			buffer.putInt((int) (frozen.endOfPath[w >>> 1] >>> ((w & 1) << 5)));
+		}
+		buffer.flip();
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+	}
+
+	/**
+	 * Open a snapshot file by mapping it into memory
+	 *
+	 * @param file A {@link Path} to a file created by
+	 *             {@link #write(UBTree, Path)}
+	 * @return A {@link MappedUBTree} that operates directly on the mapped file
+	 * @throws IOException if the file cannot be read or is not a snapshot of a
+	 *                     supported version
+	 */
+	public static MappedUBTree open(Path file) throws IOException {
+		MappedByteBuffer mapped;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			// mapping remains valid after channel is closed
+			mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		IntBuffer ints = mapped.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+
+		// check header
+		if (ints.limit() < HEADER_SIZE || ints.get(0) != MAGIC) {
+			throw new IOException("Not an UBTree snapshot: " + file);
+		}
+		if (ints.get(1) != VERSION) {
+			throw new IOException("Unsupported UBTree snapshot version " + ints.get(1) + ": " + file);
+		}
+		int nodeNr = ints.get(2);
+		// compute expected size as long to detect corrupt node numbers
+		if (nodeNr < 1 || ints.limit() != HEADER_SIZE + 3L * nodeNr + 1 + ((nodeNr + 31L) >>> 5)) {
+			throw new IOException("Truncated UBTree snapshot: " + file);
+		}
+
+		return new MappedUBTree(nodeNr, slice(ints, HEADER_SIZE, nodeNr),
+				slice(ints, HEADER_SIZE + nodeNr, nodeNr + 1), slice(ints, HEADER_SIZE + 2 * nodeNr + 1, nodeNr),
+				slice(ints, HEADER_SIZE + 3 * nodeNr + 1, (nodeNr + 31) >>> 5));
+	}
+
+	/**
+	 * Get a view of a section of an {@link IntBuffer}
+	 *
+	 * @param ints   An {@link IntBuffer}
+	 * @param offset An {@code int} defining the start of the section
+	 * @param length An {@code int} defining the length of the section
+	 * @return An {@link IntBuffer} sharing the content of {@code ints}
+	 */
+	private static IntBuffer slice(IntBuffer ints, int offset, int length) {
+		IntBuffer view = ints.duplicate();
+		view.position(offset);
+		view.limit(offset + length);
+		return view.slice();
+	}
+
+}
@@ -0,0 +1,258 @@
+package com.autoreason.setmincheck;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * An index of sets represented by exact bit vectors over the elements of the
+ * indexed collection, which are stored one after another in a single
+ * {@code long[]}
+ *
+ * <p>
+ * Each element of the collection is mapped to its rank among all distinct
+ * elements, so that no elements share a bit. A set only stores the words
+ * between its first and last non-zero word. A set is a subset of a test set if
+ * {@code (set & ~test) == 0} holds for all of its words, which is evaluated
+ * one word at a time, so that the test stops at the first differing word.
+ * Combining the words in blocks without branches, which the JIT compiler can
+ * translate into SIMD instructions, was slower for sets of up to 8000 words
+ * (see {@code SubsetTestBenchmark}).
+ * </p>
+ *
+ */
+public class WideBitVectorIndex {
+
+	/**
+	 * number of words combined before checking for a difference in
+	 * {@link #isSubsetBlocked(long[], int, long[], int, int)} (shorter blocks are
+	 * not vectorized)
+	 */
+	final static int BLOCK_WORDS = 128;
+
+	/**
+	 * the distinct elements of the indexed sets in ascending order
+	 */
+	final int[] universe;
+
+	/**
+	 * the words of all sets in ascending order of their cardinality
+	 */
+	final long[] vectors;
+
+	/**
+	 * the position of the words of each set in {@link #vectors}
+	 */
+	final int[] offset;
+
+	/**
+	 * the index of the first stored word of each set in its full bit vector
+	 */
+	final int[] firstWord;
+
+	/**
+	 * the number of stored words of each set
+	 */
+	final int[] wordCount;
+
+	/**
+	 * the cardinality of each set in ascending order
+	 */
+	final int[] cardinality;
+
+	/**
+	 * whether a set has been removed from the index
+	 */
+	final boolean[] removed;
+
+	// bit vector of the current test set, whose non-zero words are cleared after
+	// each check
+	private final long[] test;
+
+	/**
+	 * Construct a {@link WideBitVectorIndex} containing the given sets
+	 *
+	 * @param sets A {@link Collection} of sets given as {@code int[]} without
+	 *             duplicates
+	 */
+	public WideBitVectorIndex(Collection<int[]> sets) {
+		// determine distinct elements
+		this.universe = IntUBTree.sortedUniverse(sets);
+		this.test = new long[(universe.length + 63) >>> 6];
+
+		// order sets by cardinality
+		int[][] sorted = sets.toArray(new int[sets.size()][]);
+		Arrays.sort(sorted, (a, b) -> Integer.compare(a.length, b.length));
+
+		int n = sorted.length;
+		this.offset = new int[n];
+		this.firstWord = new int[n];
+		this.wordCount = new int[n];
+		this.cardinality = new int[n];
+		this.removed = new boolean[n];
+		// determine stored words of each set
+		int words = 0;
+		for (int s = 0; s < n; s++) {
+			int[] set = sorted[s];
+			cardinality[s] = set.length;
+			offset[s] = words;
+			if (set.length > 0) {
+				int min = Integer.MAX_VALUE;
+				int max = Integer.MIN_VALUE;
+				for (int e : set) {
+					min = Math.min(min, e);
+					max = Math.max(max, e);
+				}
+				firstWord[s] = Arrays.binarySearch(universe, min) >>> 6;
+				wordCount[s] = (Arrays.binarySearch(universe, max) >>> 6) - firstWord[s] + 1;
+				words += wordCount[s];
+			}
+		}
+		this.vectors = new long[words];
+		for (int s = 0; s < n; s++) {
+			for (int e : sorted[s]) {
+				int bit = Arrays.binarySearch(universe, e);
+				vectors[offset[s] + (bit >>> 6) - firstWord[s]] |= 1L << bit;
+			}
+		}
+	}
+
+	/**
+	 * Check if a given set is minimal w.r.t. the indexed sets
+	 *
+	 * @param testSet An {@code int[]} without duplicates
+	 * @return {@code true} if no indexed set is a subset of {@code testSet},
+	 *         otherwise {@code false}
+	 */
+	public boolean checkMinimal(int[] testSet) {
+		// create bit vector of test set, ignoring elements of no indexed set
+		int testCard = 0;
+		int testFirst = test.length;
+		int testLast = -1;
+		for (int e : testSet) {
+			int bit = Arrays.binarySearch(universe, e);
+			if (bit >= 0) {
+				test[bit >>> 6] |= 1L << bit;
+				testCard++;
+				testFirst = Math.min(testFirst, bit >>> 6);
+				testLast = Math.max(testLast, bit >>> 6);
+			}
+		}
+
+		boolean minimal = true;
+		for (int s = 0; s < cardinality.length && minimal; s++) {
+			// larger sets cannot be subsets
+			if (cardinality[s] > testCard) {
+				break;
+			}
+			// first and last stored word of a set are non-zero
+			if (!removed[s] && (cardinality[s] == 0 || firstWord[s] >= testFirst
+					&& firstWord[s] + wordCount[s] - 1 <= testLast
+					&& isSubset(vectors, offset[s], test, firstWord[s], wordCount[s]))) {
+				minimal = false;
+			}
+		}
+
+		// reset bit vector for next test set
+		if (testLast >= 0) {
+			Arrays.fill(test, testFirst, testLast + 1, 0L);
+		}
+		return minimal;
+	}
+
+	/**
+	 * Remove a set from the index
+	 *
+	 * @param set An {@code int[]} without duplicates
+	 * @return {@code true} if the index contained {@code set}
+	 */
+	public boolean remove(int[] set) {
+		for (int s = 0; s < cardinality.length; s++) {
+			if (!removed[s] && cardinality[s] == set.length && containsAll(s, set)) {
+				removed[s] = true;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Check if the words of a set contain all elements of a given set
+	 *
+	 * @param s   An {@code int} referring to an indexed set
+	 * @param set An {@code int[]}
+	 * @return {@code true} if set {@code s} contains all elements of {@code set}
+	 */
+	private boolean containsAll(int s, int[] set) {
+		for (int e : set) {
+			int bit = Arrays.binarySearch(universe, e);
+			int word = bit < 0 ? -1 : (bit >>> 6) - firstWord[s];
+			if (word < 0 || word >= wordCount[s] || (vectors[offset[s] + word] & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Check if {@code (set & ~test) == 0} holds for a range of words by comparing
+	 * one word at a time
+	 *
+	 * @param set     A {@code long[]} containing the words of a set
+	 * @param from    An {@code int} defining the position of the first word in
+	 *                {@code set}
+	 * @param test    A {@code long[]} containing the bit vector of a test set
+	 * @param testPos An {@code int} defining the position in {@code test} that
+	 *                corresponds to the first word
+	 * @param words   An {@code int} defining the number of compared words
+	 * @return {@code true} if all bits of the words of {@code set} are also set in
+	 *         {@code test}
+	 */
+	public static boolean isSubset(long[] set, int from, long[] test, int testPos, int words) {
+		for (int i = 0; i < words; i++) {
+			if ((set[from + i] & ~test[testPos + i]) != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Check if {@code (set & ~test) == 0} holds for a range of words, where the
+	 * first word is compared on its own and the differences of the following
+	 * {@code BLOCK_WORDS} words each are combined without branches
+	 *
+	 * @param set     A {@code long[]} containing the words of a set
+	 * @param from    An {@code int} defining the position of the first word in
+	 *                {@code set}
+	 * @param test    A {@code long[]} containing the bit vector of a test set
+	 * @param testPos An {@code int} defining the position in {@code test} that
+	 *                corresponds to the first word
+	 * @param words   An {@code int} defining the number of compared words
+	 * @return {@code true} if all bits of the words of {@code set} are also set in
+	 *         {@code test}
+	 */
+	public static boolean isSubsetBlocked(long[] set, int from, long[] test, int testPos, int words) {
+		if (words == 0) {
+			return true;
+		}
+		if ((set[from] & ~test[testPos]) != 0) {
+			return false;
+		}
+		int i = 1;
+		for (; i + BLOCK_WORDS <= words; i += BLOCK_WORDS) {
+			long diff = 0;
+			for (int j = 0; j < BLOCK_WORDS; j++) {
+				diff |= set[from + i + j] & ~test[testPos + i + j];
+			}
+			if (diff != 0) {
+				return false;
+			}
+		}
+		long diff = 0;
+		for (; i < words; i++) {
+			diff |= set[from + i] & ~test[testPos + i];
+		}
+		return diff == 0;
+	}
+
+}
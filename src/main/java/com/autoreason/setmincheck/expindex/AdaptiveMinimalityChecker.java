@@ -0,0 +1,114 @@
+package com.autoreason.setmincheck.expindex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
+
+import com.autoreason.setmincheck.CollectionStatistics;
+
+/**
+ * An {@link ExpIndex} implementation that chooses the index type for a
+ * collection by means of its {@link CollectionStatistics} and a
+ * {@link CostModel} of the query latency of each index type
+ *
+ * <p>
+ * The candidate types are those contained in the cost model, whose
+ * coefficients are fitted to measured latencies by the {@code calibrate} mode
+ * of {@code RunExperiment}. Sets added to the collection are checked one by
+ * one until their number reaches the number of indexed sets, after which the
+ * statistics are computed again and the chosen index is rebuilt.
+ * </p>
+ *
+ */
+public class AdaptiveMinimalityChecker implements ExpIndex {
+
+	// the cost model used to choose the index type
+	private final CostModel model;
+	// the sets covered by the current index
+	private final ArrayList<Set<Integer>> indexed;
+	// the sets added after the index has been built
+	private final ArrayList<Set<Integer>> added;
+	// the length of set representations passed to the chosen index type
+	private final int setRepLength;
+	// the statistics of the indexed sets
+	private CollectionStatistics statistics;
+	// the chosen index type
+	private ExpIndexType type;
+	// the index of the indexed sets
+	private ExpIndex index;
+
+	public AdaptiveMinimalityChecker(Collection<Set<Integer>> col, int setRepLength) {
+		this(col, setRepLength, CostModel.getDefault());
+	}
+
+	public AdaptiveMinimalityChecker(Collection<Set<Integer>> col, int setRepLength, CostModel model) {
+		this.model = model;
+		this.indexed = new ArrayList<Set<Integer>>(col);
+		this.added = new ArrayList<Set<Integer>>();
+		this.setRepLength = setRepLength;
+		rebuild();
+	}
+
+	/**
+	 * Report a {@link Set} that has been added to the collection, which rebuilds
+	 * the index once the number of sets added since the last build reaches the
+	 * number of indexed sets
+	 *
+	 * @param set A {@link Set} of {@link Integer} values
+	 */
+	public void add(Set<Integer> set) {
+		added.add(set);
+		if (added.size() >= indexed.size()) {
+			rebuild();
+		}
+	}
+
+	/**
+	 * Compute the statistics of all sets, choose the index type and build the
+	 * index
+	 */
+	private void rebuild() {
+		indexed.addAll(added);
+		added.clear();
+		statistics = new CollectionStatistics(indexed);
+		type = model.chooseType(statistics);
+		index = type.createIndex(indexed, setRepLength);
+	}
+
+	@Override
+	public boolean checkMinimal(Set<Integer> testSet) {
+		if (!index.checkMinimal(testSet)) {
+			return false;
+		}
+		// check sets that are not yet indexed
+		for (Set<Integer> set : added) {
+			if (testSet.containsAll(set)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void remove(Set<Integer> set) {
+		// index is kept if it contains a duplicate of the set
+		if (!added.remove(set) && indexed.remove(set) && !indexed.contains(set)) {
+			index.remove(set);
+		}
+	}
+
+	/**
+	 * @return The {@link ExpIndexType} of the current index
+	 */
+	public ExpIndexType getType() {
+		return type;
+	}
+
+	/**
+	 * @return The {@link CollectionStatistics} of the sets of the current index
+	 */
+	public CollectionStatistics getStatistics() {
+		return statistics;
+	}
+
+}
@@ -0,0 +1,270 @@
+package com.autoreason.setmincheck.expindex;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.autoreason.setmincheck.CollectionStatistics;
+
+/**
+ * A model of the query latency of index types for a collection, which is
+ * described by its {@link CollectionStatistics}
+ *
+ * <p>
+ * The latency of a type is estimated as
+ * {@code e^c0 * sets^c1 * (1 + meanSetSize)^c2 * e^(c3 * prefixSharing) * universeSize^c4},
+ * whose coefficients are fitted to measured latencies by least squares on
+ * their logarithm. The model only contains the index types for which
+ * coefficients are known, and is stored as CSV file with one line per type.
+ * </p>
+ *
+ */
+public class CostModel {
+
+	/**
+	 * the header of a cost model file
+	 */
+	public final static String HEADER = "index,constant,ln-sets,ln-mean-set-size,prefix-sharing,ln-universe-size";
+
+	/**
+	 * the resource with the cost model used by default
+	 */
+	final static String RESOURCE = "/costModel.csv";
+
+	/**
+	 * a file replacing the default cost model, which can be set with the system
+	 * property {@code adaptive.costModel}
+	 */
+	final static String FILE = System.getProperty("adaptive.costModel");
+
+	/**
+	 * the number of coefficients of each type
+	 */
+	final static int COEFFICIENT_NR = 5;
+
+	// the default cost model, loaded on first use
+	private static CostModel defaultModel;
+
+	/**
+	 * the coefficients of each index type
+	 */
+	final EnumMap<ExpIndexType, double[]> coefficients;
+
+	/**
+	 * Construct a {@link CostModel} from given coefficients
+	 *
+	 * @param coefficients A {@link Map} with {@code COEFFICIENT_NR} coefficients
+	 *                     for each contained {@link ExpIndexType}
+	 */
+	public CostModel(Map<ExpIndexType, double[]> coefficients) {
+		this.coefficients = new EnumMap<ExpIndexType, double[]>(ExpIndexType.class);
+		for (Map.Entry<ExpIndexType, double[]> entry : coefficients.entrySet()) {
+			if (entry.getValue().length != COEFFICIENT_NR) {
+				throw new IllegalArgumentException("Expected " + COEFFICIENT_NR + " coefficients for "
+						+ entry.getKey().getName());
+			}
+			this.coefficients.put(entry.getKey(), entry.getValue().clone());
+		}
+	}
+
+	/**
+	 * Get the cost model given by the file of the system property
+	 * {@code adaptive.costModel}, or otherwise by the resource
+	 * {@code costModel.csv}
+	 *
+	 * @return A {@link CostModel}, which is empty if there is no such file
+	 */
+	public static synchronized CostModel getDefault() {
+		if (defaultModel == null) {
+			try {
+				InputStream in = FILE != null ? Files.newInputStream(Paths.get(FILE))
+						: CostModel.class.getResourceAsStream(RESOURCE);
+				if (in == null) {
+					defaultModel = new CostModel(new EnumMap<ExpIndexType, double[]>(ExpIndexType.class));
+				} else {
+					try (BufferedReader reader = new BufferedReader(new InputStreamReader(in))) {
+						defaultModel = read(reader);
+					}
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException("Cannot read cost model", e);
+			}
+		}
+		return defaultModel;
+	}
+
+	/**
+	 * Read a cost model in CSV format
+	 *
+	 * @param reader A {@link BufferedReader} providing the lines of a cost model
+	 *               file
+	 * @return A {@link CostModel}
+	 * @throws IOException if the model cannot be read or is invalid
+	 */
+	public static CostModel read(BufferedReader reader) throws IOException {
+		EnumMap<ExpIndexType, double[]> coefficients = new EnumMap<ExpIndexType, double[]>(ExpIndexType.class);
+		String line = reader.readLine();
+		if (!HEADER.equals(line)) {
+			throw new IOException("Invalid cost model header: " + line);
+		}
+		while ((line = reader.readLine()) != null) {
+			if (line.isEmpty()) {
+				continue;
+			}
+			String[] values = line.split(",");
+			if (values.length != COEFFICIENT_NR + 1) {
+				throw new IOException("Invalid cost model line: " + line);
+			}
+			double[] c = new double[COEFFICIENT_NR];
+			try {
+				for (int i = 0; i < COEFFICIENT_NR; i++) {
+					c[i] = Double.parseDouble(values[i + 1]);
+				}
+				coefficients.put(ExpIndexType.valueOf(values[0]), c);
+			} catch (IllegalArgumentException e) {
+				throw new IOException("Invalid cost model line: " + line, e);
+			}
+		}
+		return new CostModel(coefficients);
+	}
+
+	/**
+	 * Write the cost model in CSV format
+	 *
+	 * @param writer A {@link BufferedWriter}
+	 * @throws IOException if the model cannot be written
+	 */
+	public void write(BufferedWriter writer) throws IOException {
+		writer.write(HEADER);
+		writer.newLine();
+		for (Map.Entry<ExpIndexType, double[]> entry : coefficients.entrySet()) {
+			writer.write(entry.getKey().name());
+			for (double c : entry.getValue()) {
+				writer.write("," + c);
+			}
+			writer.newLine();
+		}
+	}
+
+	/**
+	 * Fit the coefficients of an index type to measured latencies
+	 *
+	 * @param stats     A {@link List} with the {@link CollectionStatistics} of the
+	 *                  measured collections
+	 * @param latencies A {@code double[]} with the positive latency of the index
+	 *                  type for each collection of {@code stats}
+	 * @return A {@code double[]} with {@code COEFFICIENT_NR} coefficients
+	 */
+	public static double[] fit(List<CollectionStatistics> stats, double[] latencies) {
+		// normal equations of least squares with a small ridge for stability
+		double[][] a = new double[COEFFICIENT_NR][COEFFICIENT_NR + 1];
+		for (int s = 0; s < stats.size(); s++) {
+			double[] x = features(stats.get(s));
+			double y = Math.log(latencies[s]);
+			for (int i = 0; i < COEFFICIENT_NR; i++) {
+				for (int j = 0; j < COEFFICIENT_NR; j++) {
+					a[i][j] += x[i] * x[j];
+				}
+				a[i][COEFFICIENT_NR] += x[i] * y;
+			}
+		}
+		for (int i = 0; i < COEFFICIENT_NR; i++) {
+			a[i][i] += 1e-6;
+		}
+		// Gaussian elimination with partial pivoting
+		for (int c = 0; c < COEFFICIENT_NR; c++) {
+			int pivot = c;
+			for (int r = c + 1; r < COEFFICIENT_NR; r++) {
+				if (Math.abs(a[r][c]) > Math.abs(a[pivot][c])) {
+					pivot = r;
+				}
+			}
+			double[] row = a[c];
+			a[c] = a[pivot];
+			a[pivot] = row;
+			for (int r = 0; r < COEFFICIENT_NR; r++) {
+				if (r != c) {
+					double factor = a[r][c] / a[c][c];
+					for (int k = c; k <= COEFFICIENT_NR; k++) {
+						a[r][k] -= factor * a[c][k];
+					}
+				}
+			}
+		}
+		double[] coefficients = new double[COEFFICIENT_NR];
+		for (int i = 0; i < COEFFICIENT_NR; i++) {
+			coefficients[i] = a[i][COEFFICIENT_NR] / a[i][i];
+		}
+		return coefficients;
+	}
+
+	/**
+	 * Get the values the coefficients are multiplied with
+	 *
+	 * @param stats The {@link CollectionStatistics} of a collection
+	 * @return A {@code double[]} with {@code COEFFICIENT_NR} values
+	 */
+	static double[] features(CollectionStatistics stats) {
+		return new double[] { 1, Math.log(Math.max(1, stats.getSetCount())), Math.log(1 + stats.getMeanSetSize()),
+				stats.getPrefixSharing(), Math.log(Math.max(1, stats.getUniverseSize())) };
+	}
+
+	/**
+	 * Estimate the query latency of an index type for a collection
+	 *
+	 * @param type  An {@link ExpIndexType} contained in the model
+	 * @param stats The {@link CollectionStatistics} of the collection
+	 * @return A {@code double} defining the estimated latency in nanoseconds
+	 */
+	public double estimateLatency(ExpIndexType type, CollectionStatistics stats) {
+		double[] c = coefficients.get(type);
+		double[] x = features(stats);
+		double log = 0;
+		for (int i = 0; i < COEFFICIENT_NR; i++) {
+			log += c[i] * x[i];
+		}
+		return Math.exp(log);
+	}
+
+	/**
+	 * Choose the index type of the model with the lowest estimated query latency
+	 * for a collection
+	 *
+	 * @param stats The {@link CollectionStatistics} of the collection
+	 * @return An {@link ExpIndexType}, which is {@code SIMPLE} if the collection
+	 *         is empty or the model contains no type
+	 */
+	public ExpIndexType chooseType(CollectionStatistics stats) {
+		ExpIndexType best = ExpIndexType.SIMPLE;
+		// nothing to index
+		if (stats.getSetCount() == 0) {
+			return best;
+		}
+		double bestLatency = Double.POSITIVE_INFINITY;
+		for (ExpIndexType type : coefficients.keySet()) {
+			double latency = estimateLatency(type, stats);
+			if (latency < bestLatency) {
+				best = type;
+				bestLatency = latency;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * @return The {@link ExpIndexType} values contained in the model
+	 */
+	public Set<ExpIndexType> getTypes() {
+		return coefficients.keySet();
+	}
+
+}
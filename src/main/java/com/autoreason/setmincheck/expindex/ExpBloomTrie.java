@@ -0,0 +1,50 @@
+package com.autoreason.setmincheck.expindex;
+
+import java.util.Collection;
+import java.util.Set;
+
+import org.liveontologies.puli.collections.BloomTrieCollection2;
+
+/**
+ * An {@link ExpIndex} implementation for {@link BloomTrieCollection2}
+ *
+ */
+public class ExpBloomTrie implements ExpIndex {
+
+	// the indexed collection
+	private final Collection<Set<Integer>> col;
+	// the trie containing the sets of the collection
+	private BloomTrieCollection2<Set<Integer>> trie;
+
+	public ExpBloomTrie(Collection<Set<Integer>> col) {
+		this.col = col;
+		this.trie = createTrie(col);
+	}
+
+	/**
+	 * Create a {@link BloomTrieCollection2} containing the sets of a collection
+	 * 
+	 * @param col A {@link Collection} of {@link Set} elements
+	 * @return A {@link BloomTrieCollection2} with the elements of {@code col}
+	 */
+	private static BloomTrieCollection2<Set<Integer>> createTrie(Collection<Set<Integer>> col) {
+		BloomTrieCollection2<Set<Integer>> trie = new BloomTrieCollection2<Set<Integer>>();
+		for (Set<Integer> set : col) {
+			trie.add(set);
+		}
+		return trie;
+	}
+
+	@Override
+	public boolean checkMinimal(Set<Integer> testSet) {
+		return trie.isMinimal(testSet);
+	}
+
+	@Override
+	public void remove(Set<Integer> set) {
+		// trie is created anew, since removal is not supported by all versions of
+		// BloomTrieCollection2
+		this.trie = createTrie(col);
+	}
+
+}
@@ -0,0 +1,37 @@
+package com.autoreason.setmincheck.expindex;
+
+import java.util.Collection;
+import java.util.Set;
+
+import com.autoreason.setmincheck.FrozenUBTree;
+import com.autoreason.setmincheck.UBTree;
+
+/**
+ * An {@link ExpIndex} implementation for {@link FrozenUBTree}
+ *
+ */
+public class ExpFrozenUBTree implements ExpIndex {
+
+	// the mutable tree from which the frozen tree is compiled
+	private final UBTree<Integer> tree;
+	// the frozen tree containing the sets of the collection
+	private FrozenUBTree<Integer> frozenTree;
+
+	public ExpFrozenUBTree(Collection<Set<Integer>> col) {
+		this.tree = new UBTree<Integer>(col);
+		this.frozenTree = tree.freeze();
+	}
+
+	@Override
+	public boolean checkMinimal(Set<Integer> testSet) {
+		return frozenTree.checkMinimal(testSet);
+	}
+
+	@Override
+	public void remove(Set<Integer> set) {
+		tree.remove(set);
+		// frozen tree is immutable
+		this.frozenTree = tree.freeze();
+	}
+
+}
@@ -0,0 +1,35 @@
+package com.autoreason.setmincheck.expindex;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * An interface that defines methods needed for the experiment with data
+ * structures that index a {@link Collection} of {@link Set} elements in order
+ * to perform set minimality checking
+ *
+ */
+public interface ExpIndex {
+
+	/**
+	 * Check if a given {@link Set} is minimal w.r.t. the sets of the indexed
+	 * collection
+	 * 
+	 * @param testSet A {@link Set} of {@link Integer} values
+	 * @return {@code true} if the indexed collection does not contain any subset
+	 *         of {@code testSet}, otherwise {@code false}
+	 */
+	public boolean checkMinimal(Set<Integer> testSet);
+
+	/**
+	 * Update the index after a {@link Set} has been removed from the indexed
+	 * collection, which is not called if the collection still contains a
+	 * duplicate of the set
+	 * 
+	 * @param set A {@link Set} of {@link Integer} values that is no longer
+	 *            contained in the indexed collection
+	 * @see com.autoreason.setmincheck.DataProvider#isTestSetRemoved()
+	 */
+	public void remove(Set<Integer> set);
+
+}
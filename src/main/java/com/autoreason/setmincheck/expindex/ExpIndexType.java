@@ -0,0 +1,153 @@
+package com.autoreason.setmincheck.expindex;
+
+import java.util.Collection;
+import java.util.Set;
+
+import com.autoreason.setmincheck.setobjects.ExpBitVectorSet;
+import com.autoreason.setmincheck.setobjects.ExpBoolVectorSet;
+import com.autoreason.setmincheck.setobjects.ExpBoolVectorSet2;
+
+/**
+ * The types of {@link ExpIndex} implementations compared in the experiment
+ *
+ */
+public enum ExpIndexType {
+
+	SIMPLE("Simple") {
+		@Override
+		public ExpIndex createIndex(Collection<Set<Integer>> col, int setRepLength) {
+			return new ExpSimple(col);
+		}
+	},
+	BIT_VECTOR_SET("BitVectorSet", true) {
+		@Override
+		public ExpIndex createIndex(Collection<Set<Integer>> col, int setRepLength) {
+			return new ExpSetRepIndex<>(new ExpBitVectorSet(), col, setRepLength);
+		}
+	},
+	BOOL_VECTOR_SET("BoolVectorSet", true) {
+		@Override
+		public ExpIndex createIndex(Collection<Set<Integer>> col, int setRepLength) {
+			return new ExpSetRepIndex<>(new ExpBoolVectorSet(), col, setRepLength);
+		}
+	},
+	BOOL_VECTOR_SET2("BoolVectorSet2", true) {
+		@Override
+		public ExpIndex createIndex(Collection<Set<Integer>> col, int setRepLength) {
+			return new ExpSetRepIndex<>(new ExpBoolVectorSet2(), col, setRepLength);
+		}
+	},
+	BLOOM_TRIE("BloomTrie", true) {
+		@Override
+		public ExpIndex createIndex(Collection<Set<Integer>> col, int setRepLength) {
+			return new ExpBloomTrie(col);
+		}
+	},
+	UBTREE("UBTree") {
+		@Override
+		public ExpIndex createIndex(Collection<Set<Integer>> col, int setRepLength) {
+			return new ExpUBTree(col);
+		}
+	},
+	SIGNATURE_UBTREE("SignatureUBTree") {
+		@Override
+		public ExpIndex createIndex(Collection<Set<Integer>> col, int setRepLength) {
+			return new ExpUBTree(col, true);
+		}
+	},
+	ORDERED_UBTREE("OrderedUBTree") {
+		@Override
+		public ExpIndex createIndex(Collection<Set<Integer>> col, int setRepLength) {
+			return new ExpOrderedUBTree(col);
+		}
+	},
+	INT_UBTREE("IntUBTree") {
+		@Override
+		public ExpIndex createIndex(Collection<Set<Integer>> col, int setRepLength) {
+			return new ExpIntUBTree(col);
+		}
+	},
+	FROZEN_UBTREE("FrozenUBTree") {
+		@Override
+		public ExpIndex createIndex(Collection<Set<Integer>> col, int setRepLength) {
+			return new ExpFrozenUBTree(col);
+		}
+	},
+	ROARING_SET("RoaringSet") {
+		@Override
+		public ExpIndex createIndex(Collection<Set<Integer>> col, int setRepLength) {
+			return new ExpRoaringSet(col);
+		}
+	},
+	WIDE_BIT_VECTOR("WideBitVector") {
+		@Override
+		public ExpIndex createIndex(Collection<Set<Integer>> col, int setRepLength) {
+			return new ExpWideBitVector(col);
+		}
+	},
+	INVERTED_INDEX("InvertedIndex") {
+		@Override
+		public ExpIndex createIndex(Collection<Set<Integer>> col, int setRepLength) {
+			return new ExpInvertedIndex(col);
+		}
+	},
+	ADAPTIVE("Adaptive") {
+		@Override
+		public ExpIndex createIndex(Collection<Set<Integer>> col, int setRepLength) {
+			return new AdaptiveMinimalityChecker(col, setRepLength);
+		}
+	};
+
+	/**
+	 * the name used for the results of the index type
+	 */
+	private final String name;
+
+	/**
+	 * flag whether an index of this type is created anew when a set is removed
+	 */
+	private final boolean rebuiltOnRemoval;
+
+	private ExpIndexType(String name) {
+		this(name, false);
+	}
+
+	private ExpIndexType(String name, boolean rebuiltOnRemoval) {
+		this.name = name;
+		this.rebuiltOnRemoval = rebuiltOnRemoval;
+	}
+
+	/**
+	 * Get the name used for the results of the index type
+	 * 
+	 * @return A {@link String}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Check if an index of this type is created anew when a set is removed
+	 * instead of being updated incrementally
+	 * 
+	 * @return {@code true} if {@link ExpIndex#remove(Set)} rebuilds the index,
+	 *         otherwise {@code false}
+	 */
+	public boolean isRebuiltOnRemoval() {
+		return rebuiltOnRemoval;
+	}
+
+	/**
+	 * Create an {@link ExpIndex} of this type for a given {@link Collection}
+	 * 
+	 * @param col          A {@link Collection} of {@link Set} elements containing
+	 *                     {@link Integer} values, which is referenced by the index
+	 *                     and must not be changed except by removals that are
+	 *                     reported to {@link ExpIndex#remove(Set)}
+	 * @param setRepLength A positive {@code int} value defining the length of set
+	 *                     representations based on bit vectors
+	 * @return An {@link ExpIndex} for {@code col}
+	 */
+	public abstract ExpIndex createIndex(Collection<Set<Integer>> col, int setRepLength);
+
+}
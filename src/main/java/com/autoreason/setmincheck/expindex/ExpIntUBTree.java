@@ -0,0 +1,31 @@
+package com.autoreason.setmincheck.expindex;
+
+import java.util.Collection;
+import java.util.Set;
+
+import com.autoreason.setmincheck.IntUBTree;
+
+/**
+ * An {@link ExpIndex} implementation for {@link IntUBTree}
+ *
+ */
+public class ExpIntUBTree implements ExpIndex {
+
+	// the tree containing the sets of the collection
+	private final IntUBTree tree;
+
+	public ExpIntUBTree(Collection<Set<Integer>> col) {
+		this.tree = new IntUBTree(col);
+	}
+
+	@Override
+	public boolean checkMinimal(Set<Integer> testSet) {
+		return tree.checkMinimal(IntUBTree.toSortedArray(testSet));
+	}
+
+	@Override
+	public void remove(Set<Integer> set) {
+		tree.remove(IntUBTree.toSortedArray(set));
+	}
+
+}
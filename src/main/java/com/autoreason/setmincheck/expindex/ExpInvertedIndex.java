@@ -0,0 +1,37 @@
+package com.autoreason.setmincheck.expindex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
+
+import com.autoreason.setmincheck.IntUBTree;
+import com.autoreason.setmincheck.InvertedIndexChecker;
+
+/**
+ * An {@link ExpIndex} implementation for {@link InvertedIndexChecker}
+ *
+ */
+public class ExpInvertedIndex implements ExpIndex {
+
+	// the inverted index of the sets of the collection
+	private final InvertedIndexChecker checker;
+
+	public ExpInvertedIndex(Collection<Set<Integer>> col) {
+		ArrayList<int[]> sets = new ArrayList<int[]>(col.size());
+		for (Set<Integer> set : col) {
+			sets.add(IntUBTree.toSortedArray(set));
+		}
+		this.checker = new InvertedIndexChecker(sets);
+	}
+
+	@Override
+	public boolean checkMinimal(Set<Integer> testSet) {
+		return checker.checkMinimal(IntUBTree.toSortedArray(testSet));
+	}
+
+	@Override
+	public void remove(Set<Integer> set) {
+		checker.remove(IntUBTree.toSortedArray(set));
+	}
+
+}
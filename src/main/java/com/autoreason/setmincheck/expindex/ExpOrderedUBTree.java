@@ -0,0 +1,31 @@
+package com.autoreason.setmincheck.expindex;
+
+import java.util.Collection;
+import java.util.Set;
+
+import com.autoreason.setmincheck.OrderedUBTree;
+
+/**
+ * An {@link ExpIndex} implementation for {@link OrderedUBTree}
+ *
+ */
+public class ExpOrderedUBTree implements ExpIndex {
+
+	// the tree containing the sets of the collection
+	private final OrderedUBTree<Integer> tree;
+
+	public ExpOrderedUBTree(Collection<Set<Integer>> col) {
+		this.tree = new OrderedUBTree<Integer>(col);
+	}
+
+	@Override
+	public boolean checkMinimal(Set<Integer> testSet) {
+		return tree.checkMinimal(testSet);
+	}
+
+	@Override
+	public void remove(Set<Integer> set) {
+		tree.remove(set);
+	}
+
+}
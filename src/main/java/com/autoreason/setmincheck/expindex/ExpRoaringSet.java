@@ -0,0 +1,48 @@
+package com.autoreason.setmincheck.expindex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Set;
+
+import com.autoreason.setmincheck.RoaringSet;
+
+/**
+ * An {@link ExpIndex} implementation that keeps the sets of a collection as
+ * {@link RoaringSet} objects sorted by their cardinality
+ *
+ */
+public class ExpRoaringSet implements ExpIndex {
+
+	// the converted sets in ascending order of cardinality
+	private final ArrayList<RoaringSet> sets;
+
+	public ExpRoaringSet(Collection<Set<Integer>> col) {
+		this.sets = new ArrayList<RoaringSet>(col.size());
+		for (Set<Integer> set : col) {
+			sets.add(new RoaringSet(set));
+		}
+		sets.sort(Comparator.comparingInt(RoaringSet::cardinality));
+	}
+
+	@Override
+	public boolean checkMinimal(Set<Integer> testSet) {
+		RoaringSet test = new RoaringSet(testSet);
+		for (RoaringSet set : sets) {
+			// larger sets cannot be subsets
+			if (set.cardinality() > test.cardinality()) {
+				break;
+			}
+			if (set.isSubsetOf(test)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void remove(Set<Integer> set) {
+		sets.remove(new RoaringSet(set));
+	}
+
+}
@@ -0,0 +1,50 @@
+package com.autoreason.setmincheck.expindex;
+
+import java.util.Collection;
+import java.util.NavigableSet;
+import java.util.Set;
+
+import com.autoreason.setmincheck.DataProvider;
+import com.autoreason.setmincheck.SetMinimalityChecker;
+import com.autoreason.setmincheck.setobjects.ExpSetRepresent;
+import com.autoreason.setmincheck.setobjects.SetRepresent;
+
+/**
+ * An {@link ExpIndex} implementation for the {@link SetRepresent}
+ * implementations of the {@code set-minimality-checking} project
+ *
+ * @param <S> An implementation of both {@link SetRepresent} and
+ *            {@link Comparable}
+ * @param <R> The data type for the set representation used by the
+ *            implementation of {@link SetRepresent}
+ */
+public class ExpSetRepIndex<S extends SetRepresent<R> & Comparable<S>, R> implements ExpIndex {
+
+	// the object providing the set representation
+	private final ExpSetRepresent<S, R> expSetRep;
+	// the indexed collection
+	private final Collection<Set<Integer>> col;
+	// the sorted converted collection
+	private NavigableSet<S> convertedCol;
+
+	public ExpSetRepIndex(ExpSetRepresent<S, R> expSetRep, Collection<Set<Integer>> col, int setRepLength) {
+		this.expSetRep = expSetRep;
+		this.col = col;
+		// set bit vector length for related SetRepresent implementation
+		expSetRep.setSetRepLength(setRepLength);
+		this.convertedCol = DataProvider.convertCollection(expSetRep, col);
+	}
+
+	@Override
+	public boolean checkMinimal(Set<Integer> testSet) {
+		return SetMinimalityChecker.<S>isMinimal(convertedCol, testSet, expSetRep.getMatchProvider(testSet));
+	}
+
+	@Override
+	public void remove(Set<Integer> set) {
+		// equal set representations may stem from different sets, so the converted
+		// collection is created anew
+		this.convertedCol = DataProvider.convertCollection(expSetRep, col);
+	}
+
+}
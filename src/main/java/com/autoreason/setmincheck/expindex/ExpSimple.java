@@ -0,0 +1,52 @@
+package com.autoreason.setmincheck.expindex;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * An {@link ExpIndex} implementation that simply goes through all the sets of
+ * a collection and performs a subset test
+ *
+ */
+public class ExpSimple implements ExpIndex {
+
+	// the collection that is checked directly
+	private final Collection<Set<Integer>> col;
+
+	public ExpSimple(Collection<Set<Integer>> col) {
+		this.col = col;
+	}
+
+	/**
+	 * Simple set minimality check by considering every set of a collection to find
+	 * all the subsets
+	 * 
+	 * @param col     A {@link Collection} of {@link Set} elements
+	 * @param testSet A {@link Set}
+	 * @return {@code true} if the collection {@code col} does not contain any
+	 *         subset of {@code testSet}, otherwise {@code false}
+	 */
+	public static boolean simpleMinimalityCheck(Collection<Set<Integer>> col, Set<Integer> testSet) {
+		Collection<Set<Integer>> subsets = new HashSet<Set<Integer>>();
+		// get all subsets from collection
+		for (Set<Integer> set : col) {
+			if (testSet.containsAll(set)) {
+				subsets.add(set);
+			}
+		}
+		// testSet is minimal w.r.t. col if no subset could be found
+		return subsets.isEmpty();
+	}
+
+	@Override
+	public boolean checkMinimal(Set<Integer> testSet) {
+		return simpleMinimalityCheck(col, testSet);
+	}
+
+	@Override
+	public void remove(Set<Integer> set) {
+		// collection is used directly and thus already up to date
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.autoreason.setmincheck.expindex;
+
+import java.util.Collection;
+import java.util.Set;
+
+import com.autoreason.setmincheck.UBTree;
+
+/**
+ * An {@link ExpIndex} implementation for {@link UBTree}
+ *
+ */
+public class ExpUBTree implements ExpIndex {
+
+	// the tree containing the sets of the collection
+	private final UBTree<Integer> tree;
+
+	public ExpUBTree(Collection<Set<Integer>> col) {
+		this(col, false);
+	}
+
+	/**
+	 * Create an index for the given collection
+	 * 
+	 * @param col           A {@link Collection} of {@link Set} elements
+	 * @param useSignatures A {@code boolean} stating whether the tree prunes
+	 *                      subtrees by means of node signatures
+	 */
+	public ExpUBTree(Collection<Set<Integer>> col, boolean useSignatures) {
+		this.tree = new UBTree<Integer>(col, useSignatures);
+	}
+
+	@Override
+	public boolean checkMinimal(Set<Integer> testSet) {
+		return tree.checkMinimal(testSet);
+	}
+
+	@Override
+	public void remove(Set<Integer> set) {
+		tree.remove(set);
+	}
+
+}
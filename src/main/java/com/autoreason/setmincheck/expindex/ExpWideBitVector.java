@@ -0,0 +1,37 @@
+package com.autoreason.setmincheck.expindex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
+
+import com.autoreason.setmincheck.IntUBTree;
+import com.autoreason.setmincheck.WideBitVectorIndex;
+
+/**
+ * An {@link ExpIndex} implementation for {@link WideBitVectorIndex}
+ *
+ */
+public class ExpWideBitVector implements ExpIndex {
+
+	// the bit vectors of the sets of the collection
+	private final WideBitVectorIndex index;
+
+	public ExpWideBitVector(Collection<Set<Integer>> col) {
+		ArrayList<int[]> sets = new ArrayList<int[]>(col.size());
+		for (Set<Integer> set : col) {
+			sets.add(IntUBTree.toSortedArray(set));
+		}
+		this.index = new WideBitVectorIndex(sets);
+	}
+
+	@Override
+	public boolean checkMinimal(Set<Integer> testSet) {
+		return index.checkMinimal(IntUBTree.toSortedArray(testSet));
+	}
+
+	@Override
+	public void remove(Set<Integer> set) {
+		index.remove(IntUBTree.toSortedArray(set));
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.autoreason.setmincheck;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class CollectionStatisticsTest {
+
+	@Test
+	public void testStatistics() {
+		Collection<Set<Integer>> col = new ArrayList<Set<Integer>>();
+		col.add(new HashSet<Integer>(Arrays.asList(3, 1, 2)));
+		col.add(new HashSet<Integer>(Arrays.asList(5)));
+		col.add(new HashSet<Integer>(Arrays.asList(4, 2, 1)));
+		CollectionStatistics stats = new CollectionStatistics(col);
+		assertEquals(3, stats.getSetCount());
+		assertEquals(7 / 3.0, stats.getMeanSetSize(), 1e-9);
+		assertEquals(3, stats.getMaxSetSize());
+		assertEquals(5, stats.getUniverseSize());
+		// trie nodes 1-2-3, 4 below 1-2, and 5
+		assertEquals(5, stats.prefixNodes);
+		assertEquals(2 / 7.0, stats.getPrefixSharing(), 1e-9);
+		assertEquals(7 / 5.0, stats.getMeanPostingLength(), 1e-9);
+	}
+
+	@Test
+	public void testSharedPrefixes() {
+		Collection<Set<Integer>> col = new ArrayList<Set<Integer>>();
+		col.add(new HashSet<Integer>(Arrays.asList(1, 2)));
+		col.add(new HashSet<Integer>(Arrays.asList(1, 2, 3)));
+		col.add(new HashSet<Integer>(Arrays.asList(1)));
+		// duplicates add no nodes
+		col.add(new HashSet<Integer>(Arrays.asList(1, 2, 3)));
+		CollectionStatistics stats = new CollectionStatistics(col);
+		assertEquals(3, stats.prefixNodes);
+		assertEquals(1 - 3 / 9.0, stats.getPrefixSharing(), 1e-9);
+		assertEquals(3, stats.getUniverseSize());
+	}
+
+	@Test
+	public void testEmpty() {
+		Collection<Set<Integer>> col = new ArrayList<Set<Integer>>();
+		CollectionStatistics stats = new CollectionStatistics(col);
+		assertEquals(0, stats.getSetCount());
+		assertEquals(0, stats.getMeanSetSize(), 0);
+		assertEquals(0, stats.getPrefixSharing(), 0);
+
+		col.add(new HashSet<Integer>());
+		stats = new CollectionStatistics(col);
+		assertEquals(1, stats.getSetCount());
+		assertEquals(0, stats.getUniverseSize());
+		assertEquals(0, stats.getPrefixSharing(), 0);
+	}
+
+}
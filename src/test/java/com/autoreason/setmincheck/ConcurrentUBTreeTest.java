@@ -0,0 +1,179 @@
+package com.autoreason.setmincheck;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class ConcurrentUBTreeTest {
+
+	@Test
+	public void testInsert() {
+		ConcurrentUBTree<Integer> tree = new ConcurrentUBTree<Integer>();
+		tree.insert(new TreeSet<Integer>(Arrays.asList(3, 7)));
+		tree.insert(new TreeSet<Integer>(Arrays.asList(1, 7, 9)));
+		tree.insert(new TreeSet<Integer>(Arrays.asList(1, 3)));
+		tree.insert(new TreeSet<Integer>(Arrays.asList(1)));
+
+		assertEquals(2, tree.root.children.length);
+		ConcurrentUBTreeNode<Integer> n1 = tree.root.children[0];
+		assertEquals(1, (int) n1.element);
+		assertTrue(n1.endOfPath);
+		assertEquals(0, n1.distanceToNextEOP);
+		assertEquals(3, (int) n1.children[0].element);
+		assertEquals(7, (int) n1.children[1].element);
+		assertEquals(1, n1.children[1].distanceToNextEOP);
+
+		assertFalse(tree.checkMinimal(new TreeSet<Integer>(Arrays.asList(1, 2))));
+		assertFalse(tree.checkMinimal(new TreeSet<Integer>(Arrays.asList(3, 5, 7))));
+		assertTrue(tree.checkMinimal(new TreeSet<Integer>(Arrays.asList(3, 9))));
+	}
+
+	@Test
+	public void testEmptySet() {
+		ConcurrentUBTree<Integer> tree = new ConcurrentUBTree<Integer>();
+		tree.insert(new TreeSet<Integer>(Arrays.asList(1, 2)));
+		assertTrue(tree.checkMinimal(new TreeSet<Integer>(Arrays.asList(3))));
+		assertTrue(tree.checkMinimal(new TreeSet<Integer>()));
+
+		// empty set is a subset of every set
+		tree.insert(new TreeSet<Integer>());
+		assertFalse(tree.checkMinimal(new TreeSet<Integer>(Arrays.asList(3))));
+		assertFalse(tree.checkMinimal(new TreeSet<Integer>()));
+		assertEquals(1, tree.root.children.length);
+
+		// empty set of a collection
+		ArrayList<Set<Integer>> col = new ArrayList<Set<Integer>>();
+		col.add(new TreeSet<Integer>(Arrays.asList(4, 5)));
+		col.add(new TreeSet<Integer>());
+		assertFalse(new ConcurrentUBTree<Integer>(col).checkMinimal(new TreeSet<Integer>(Arrays.asList(3))));
+	}
+
+	@Test
+	public void testConcurrentReadersAndWriters() throws InterruptedException {
+		final int writerNr = 4;
+		final int readerNr = 4;
+		final int setsPerWriter = 2000;
+		Random r = new Random(17);
+
+		// sets inserted before the threads start
+		final ArrayList<Set<Integer>> initialSets = new ArrayList<Set<Integer>>();
+		for (int i = 0; i < 500; i++) {
+			initialSets.add(TestSets.randomSet(r, 6, 200));
+		}
+		// sets inserted by the writers
+		final ArrayList<ArrayList<Set<Integer>>> writerSets = new ArrayList<ArrayList<Set<Integer>>>();
+		for (int w = 0; w < writerNr; w++) {
+			ArrayList<Set<Integer>> sets = new ArrayList<Set<Integer>>();
+			for (int i = 0; i < setsPerWriter; i++) {
+				sets.add(TestSets.randomSet(r, 6, 200));
+			}
+			writerSets.add(sets);
+		}
+
+		final ConcurrentUBTree<Integer> tree = new ConcurrentUBTree<Integer>(initialSets);
+		final CountDownLatch startSignal = new CountDownLatch(1);
+		final AtomicBoolean writing = new AtomicBoolean(true);
+		final AtomicInteger failures = new AtomicInteger();
+		final AtomicInteger runningWriters = new AtomicInteger(writerNr);
+
+		ArrayList<Thread> threads = new ArrayList<Thread>();
+		for (int w = 0; w < writerNr; w++) {
+			final ArrayList<Set<Integer>> sets = writerSets.get(w);
+			threads.add(new Thread(() -> {
+				try {
+					startSignal.await();
+					for (Set<Integer> set : sets) {
+						tree.insert(set);
+						// own insertion is visible immediately
+						if (tree.checkMinimal(set)) {
+							failures.incrementAndGet();
+						}
+					}
+				} catch (Throwable e) {
+					failures.incrementAndGet();
+				} finally {
+					if (runningWriters.decrementAndGet() == 0) {
+						writing.set(false);
+					}
+				}
+			}));
+		}
+		for (int t = 0; t < readerNr; t++) {
+			final Random readerRandom = new Random(t);
+			threads.add(new Thread(() -> {
+				try {
+					startSignal.await();
+					while (writing.get()) {
+						// initially inserted sets are always found
+						Set<Integer> set = initialSets.get(readerRandom.nextInt(initialSets.size()));
+						if (tree.checkMinimal(set)) {
+							failures.incrementAndGet();
+						}
+						// arbitrary queries must not fail
+						tree.checkMinimal(TestSets.randomSet(readerRandom, 20, 200));
+					}
+				} catch (Throwable e) {
+					failures.incrementAndGet();
+				}
+			}));
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		startSignal.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(0, failures.get());
+
+		// result equals check of every set
+		ArrayList<Set<Integer>> allSets = new ArrayList<Set<Integer>>(initialSets);
+		for (ArrayList<Set<Integer>> sets : writerSets) {
+			allSets.addAll(sets);
+		}
+		for (int i = 0; i < 2000; i++) {
+			Set<Integer> test = TestSets.randomSet(r, 30, 200);
+			boolean minimal = true;
+			for (Set<Integer> set : allSets) {
+				if (test.containsAll(set)) {
+					minimal = false;
+				}
+			}
+			assertEquals(minimal, tree.checkMinimal(test));
+		}
+		assertDistances(tree.root.children);
+	}
+
+	/**
+	 * Assert that the distances to the next end-of-path node are consistent with
+	 * the tree structure
+	 * 
+	 * @return the minimum distance of the given nodes
+	 */
+	private static int assertDistances(ConcurrentUBTreeNode<Integer>[] nodes) {
+		int minDistance = Integer.MAX_VALUE;
+		for (int i = 0; i < nodes.length; i++) {
+			ConcurrentUBTreeNode<Integer> node = nodes[i];
+			if (i > 0) {
+				assertTrue(nodes[i - 1].element < node.element);
+			}
+			int childDistance = assertDistances(node.children);
+			int expected = node.endOfPath ? 0 : childDistance + 1;
+			assertEquals(expected, node.distanceToNextEOP);
+			minDistance = Math.min(minDistance, expected);
+		}
+		return minDistance;
+	}
+
+}
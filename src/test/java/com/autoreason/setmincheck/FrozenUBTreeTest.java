@@ -0,0 +1,63 @@
+package com.autoreason.setmincheck;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+public class FrozenUBTreeTest {
+
+	@Test
+	public void testFreeze() {
+		UBTree<Integer> ubTree = new UBTree<Integer>();
+		ubTree.insert(new TreeSet<Integer>(Arrays.asList(1, 3)));
+		ubTree.insert(new TreeSet<Integer>(Arrays.asList(1, 7, 9)));
+		ubTree.insert(new TreeSet<Integer>(Arrays.asList(3, 7)));
+
+		FrozenUBTree<Integer> frozen = ubTree.freeze();
+		// virtual root, nodes 1 and 3, nodes 3 and 7 below 1, node 7 below 3, node 9
+		assertEquals(7, frozen.size());
+		assertArrayEquals(new Object[] { 1, 3, 7, 9 }, frozen.dictionary);
+		assertArrayEquals(new int[] { 0, 0, 1, 1, 2, 2, 3 }, frozen.elements);
+		assertArrayEquals(new int[] { 1, 3, 5, 6, 6, 7, 7, 7 }, frozen.childStart);
+		assertArrayEquals(new int[] { Integer.MAX_VALUE, 1, 1, 0, 1, 0, 0 }, frozen.distanceToNextEOP);
+		assertEquals(0b1101000L, frozen.endOfPath[0]);
+	}
+
+	@Test
+	public void testCheckMinimal() {
+		Random r = new Random(7);
+		Collection<Set<Integer>> col = new ArrayList<Set<Integer>>();
+		for (int i = 0; i < 300; i++) {
+			col.add(TestSets.randomSet(r, 6, 40));
+		}
+		FrozenUBTree<Integer> frozen = new UBTree<Integer>(col).freeze();
+
+		for (int i = 0; i < 1000; i++) {
+			Set<Integer> test = TestSets.randomSet(r, 20, 50);
+			// compare with check of every set
+			boolean minimal = true;
+			for (Set<Integer> set : col) {
+				if (test.containsAll(set)) {
+					minimal = false;
+				}
+			}
+			assertEquals(minimal, frozen.checkMinimal(test));
+		}
+		for (Set<Integer> set : col) {
+			assertFalse(frozen.checkMinimal(set));
+		}
+		assertTrue(frozen.checkMinimal(new HashSet<Integer>()));
+	}
+
+}
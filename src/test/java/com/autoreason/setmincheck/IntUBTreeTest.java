@@ -0,0 +1,116 @@
+package com.autoreason.setmincheck;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class IntUBTreeTest {
+
+	@Test
+	public void testInsert() {
+		IntUBTree tree = new IntUBTree();
+		tree.insert(new int[] { 1, 2, 3, 4 });
+		tree.insert(new int[] { 2, 5 });
+		tree.insert(new int[] { 0, 7 });
+		tree.insert(new int[] { 1, 2, 3 });
+
+		// root children are sorted
+		assertEquals(3, tree.root.childCount);
+		assertArrayEquals(new int[] { 0, 1, 2 }, Arrays.copyOf(tree.root.keys, 3));
+
+		IntUBTreeNode n1 = tree.root.children[1];
+		IntUBTreeNode n3 = n1.children[0].children[0];
+		assertFalse(n1.endOfPath);
+		assertTrue(n3.endOfPath);
+		assertTrue(n3.children[0].endOfPath);
+		assertEquals(2, n1.distanceToNextEOP);
+		assertEquals(0, n3.distanceToNextEOP);
+	}
+
+	@Test
+	public void testCheckMinimal() {
+		IntUBTree tree = new IntUBTree();
+		tree.insert(new int[] { 1, 2, 3, 4 });
+		tree.insert(new int[] { 2, 5 });
+
+		assertFalse(tree.checkMinimal(new int[] { 0, 1, 2, 3, 4 }));
+		assertFalse(tree.checkMinimal(new int[] { 2, 5 }));
+		assertTrue(tree.checkMinimal(new int[] { 1, 3, 4, 5 }));
+		assertTrue(tree.checkMinimal(new int[] { 5 }));
+		assertTrue(tree.checkMinimal(new int[0]));
+	}
+
+	@Test
+	public void testCheckMinimalRandom() {
+		Random r = new Random(42);
+		Collection<Set<Integer>> col = new ArrayList<Set<Integer>>();
+		for (int i = 0; i < 200; i++) {
+			col.add(TestSets.randomSet(r, 6, 30));
+		}
+		IntUBTree tree = new IntUBTree(col);
+
+		for (int i = 0; i < 500; i++) {
+			Set<Integer> test = TestSets.randomSet(r, 15, 30);
+			// compare with check of every set
+			boolean minimal = true;
+			for (Set<Integer> set : col) {
+				if (test.containsAll(set)) {
+					minimal = false;
+				}
+			}
+			assertEquals(minimal, tree.checkMinimal(IntUBTree.toSortedArray(test)));
+		}
+	}
+
+	@Test
+	public void testRemove() {
+		IntUBTree tree = new IntUBTree();
+		tree.insert(new int[] { 1, 2, 3 });
+		tree.insert(new int[] { 1, 2, 3, 4, 5 });
+		tree.insert(new int[] { 1, 6 });
+
+		assertFalse(tree.remove(new int[] { 1, 2 }));
+		assertFalse(tree.remove(new int[] { 7 }));
+
+		assertTrue(tree.remove(new int[] { 1, 2, 3 }));
+		assertFalse(tree.checkMinimal(new int[] { 1, 2, 3, 4, 5 }));
+		assertTrue(tree.checkMinimal(new int[] { 1, 2, 3, 4 }));
+		assertEquals(1, tree.root.children[0].distanceToNextEOP);
+
+		assertTrue(tree.remove(new int[] { 1, 6 }));
+		assertEquals(4, tree.root.children[0].distanceToNextEOP);
+		assertEquals(1, tree.root.children[0].childCount);
+
+		assertTrue(tree.remove(new int[] { 1, 2, 3, 4, 5 }));
+		assertEquals(0, tree.root.childCount);
+		assertTrue(tree.checkMinimal(new int[] { 1, 2, 3, 4, 5, 6 }));
+	}
+
+	@Test
+	public void testEmptySet() {
+		IntUBTree tree = new IntUBTree();
+		tree.insert(new int[] { 1, 2 });
+		assertFalse(tree.remove(new int[0]));
+		assertTrue(tree.checkMinimal(new int[] { 3 }));
+
+		// empty set is a subset of every set
+		tree.insert(new int[0]);
+		assertFalse(tree.checkMinimal(new int[] { 3 }));
+		assertFalse(tree.checkMinimal(new int[0]));
+
+		assertTrue(tree.remove(new int[0]));
+		assertFalse(tree.remove(new int[0]));
+		assertTrue(tree.checkMinimal(new int[] { 3 }));
+		assertFalse(tree.checkMinimal(new int[] { 1, 2, 3 }));
+	}
+
+}
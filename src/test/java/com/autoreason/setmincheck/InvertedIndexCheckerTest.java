@@ -0,0 +1,86 @@
+package com.autoreason.setmincheck;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class InvertedIndexCheckerTest {
+
+	@Test
+	public void testPostings() {
+		InvertedIndexChecker checker = new InvertedIndexChecker(
+				Arrays.asList(new int[] { 1, 2, 3 }, new int[] { 2, 5 }, new int[] { 5 }));
+		assertArrayEquals(new int[] { 1, 2, 3, 5 }, checker.universe);
+		assertArrayEquals(new int[] { 0, 1, 3, 4, 6 }, checker.postingStart);
+		assertArrayEquals(new int[] { 0, 0, 1, 0, 1, 2 }, checker.postings);
+		assertArrayEquals(new int[] { 3, 2, 1 }, checker.sizes);
+	}
+
+	@Test
+	public void testCheckMinimal() {
+		InvertedIndexChecker checker = new InvertedIndexChecker(
+				Arrays.asList(new int[] { 1, 2, 3 }, new int[] { -2, 5 }, new int[] { 7 }));
+		assertFalse(checker.checkMinimal(new int[] { 3, 1, 2, 9 }));
+		assertFalse(checker.checkMinimal(new int[] { 7 }));
+		assertFalse(checker.checkMinimal(new int[] { 5, 4, -2 }));
+		assertTrue(checker.checkMinimal(new int[] { 1, 2, 5 }));
+		assertTrue(checker.checkMinimal(new int[] { 8, 9 }));
+		assertTrue(checker.checkMinimal(new int[0]));
+		// counters are reset after a check
+		assertTrue(checker.checkMinimal(new int[] { 1, 2 }));
+		assertTrue(checker.checkMinimal(new int[] { 3 }));
+
+		assertTrue(checker.remove(new int[] { 7 }));
+		assertFalse(checker.remove(new int[] { 7 }));
+		assertFalse(checker.remove(new int[] { 1, 2 }));
+		assertTrue(checker.checkMinimal(new int[] { 7 }));
+		assertFalse(checker.checkMinimal(new int[] { 1, 2, 3, 7 }));
+
+		// empty set is subset of every set
+		InvertedIndexChecker empty = new InvertedIndexChecker(Arrays.asList(new int[] { 1 }, new int[0]));
+		assertFalse(empty.checkMinimal(new int[] { 2 }));
+		assertTrue(empty.remove(new int[0]));
+		assertTrue(empty.checkMinimal(new int[] { 2 }));
+	}
+
+	@Test
+	public void testRandomSets() {
+		Random random = new Random(11);
+		ArrayList<int[]> sets = new ArrayList<int[]>();
+		ArrayList<Set<Integer>> reference = new ArrayList<Set<Integer>>();
+		for (int s = 0; s < 500; s++) {
+			Set<Integer> set = new HashSet<Integer>();
+			int size = 1 + random.nextInt(6);
+			while (set.size() < size) {
+				set.add(random.nextInt(200));
+			}
+			reference.add(set);
+			sets.add(IntUBTree.toSortedArray(set));
+		}
+		InvertedIndexChecker checker = new InvertedIndexChecker(sets);
+
+		for (int t = 0; t < 1000; t++) {
+			Set<Integer> test = new HashSet<Integer>();
+			for (int i = random.nextInt(30); i > 0; i--) {
+				test.add(random.nextInt(220));
+			}
+			boolean minimal = true;
+			for (Set<Integer> set : reference) {
+				if (test.containsAll(set)) {
+					minimal = false;
+				}
+			}
+			assertEquals(minimal, checker.checkMinimal(IntUBTree.toSortedArray(test)));
+		}
+	}
+
+}
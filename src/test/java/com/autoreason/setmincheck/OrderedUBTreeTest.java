@@ -0,0 +1,80 @@
+package com.autoreason.setmincheck;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class OrderedUBTreeTest {
+
+	@Test
+	public void testFrequencyOrder() {
+		Collection<Set<Integer>> col = new ArrayList<Set<Integer>>();
+		col.add(new HashSet<Integer>(Arrays.asList(1, 2, 3)));
+		col.add(new HashSet<Integer>(Arrays.asList(1, 2)));
+		col.add(new HashSet<Integer>(Arrays.asList(1, 4)));
+		FrequencyOrder<Integer> order = new FrequencyOrder<Integer>(col);
+
+		// rarest first, ties broken by natural order
+		assertEquals(0, order.rankOf(3));
+		assertEquals(1, order.rankOf(4));
+		assertEquals(2, order.rankOf(2));
+		assertEquals(3, order.rankOf(1));
+		assertEquals(-1, order.rankOf(5));
+
+		// unknown elements are dropped or ranked last
+		assertEquals(new HashSet<Integer>(Arrays.asList(0, 3)),
+				order.knownRanks(new HashSet<Integer>(Arrays.asList(1, 3, 5))));
+		assertEquals(new HashSet<Integer>(Arrays.asList(0, 3, 4)),
+				order.addRanks(new HashSet<Integer>(Arrays.asList(1, 3, 5))));
+		assertEquals(4, order.rankOf(5));
+	}
+
+	@Test
+	public void testCheckMinimal() {
+		Random r = new Random(11);
+		Collection<Set<Integer>> col = new ArrayList<Set<Integer>>();
+		for (int i = 0; i < 300; i++) {
+			col.add(TestSets.randomSet(r, 6, 40));
+		}
+		OrderedUBTree<Integer> ordered = new OrderedUBTree<Integer>(col);
+		UBTree<Integer> natural = new UBTree<Integer>(col);
+
+		for (int i = 0; i < 500; i++) {
+			// also include elements not contained in the collection
+			Set<Integer> test = TestSets.randomSet(r, 10, 50);
+			assertEquals(natural.checkMinimal(test), ordered.checkMinimal(test));
+		}
+		for (Set<Integer> set : col) {
+			assertFalse(ordered.checkMinimal(set));
+		}
+	}
+
+	@Test
+	public void testInsertRemove() {
+		Collection<Set<Integer>> col = new ArrayList<Set<Integer>>();
+		col.add(new HashSet<Integer>(Arrays.asList(1, 2, 3)));
+		col.add(new HashSet<Integer>(Arrays.asList(2, 4)));
+		OrderedUBTree<Integer> tree = new OrderedUBTree<Integer>(col);
+
+		Set<Integer> newSet = new HashSet<Integer>(Arrays.asList(3, 7));
+		assertTrue(tree.checkMinimal(new HashSet<Integer>(Arrays.asList(3, 7, 9))));
+		tree.insert(newSet);
+		assertFalse(tree.checkMinimal(new HashSet<Integer>(Arrays.asList(3, 7, 9))));
+
+		assertFalse(tree.remove(new HashSet<Integer>(Arrays.asList(2, 8))));
+		assertTrue(tree.remove(newSet));
+		assertFalse(tree.remove(newSet));
+		assertTrue(tree.checkMinimal(new HashSet<Integer>(Arrays.asList(3, 7, 9))));
+		assertFalse(tree.checkMinimal(new HashSet<Integer>(Arrays.asList(2, 4, 7))));
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.autoreason.setmincheck;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class QueryWorkloadTest {
+
+	@Test
+	public void testGenerate() throws IOException {
+		ArrayList<Collection<Set<Integer>>> cols = SetArena.readResource("/files/jsSets-Galen_DD-45x16x32.txt")
+				.toCollections();
+		QueryWorkload workload = QueryWorkload.generate(cols, 1000, new double[] { 4, 3, 2, 1 }, 42);
+
+		assertEquals(1000, workload.getQueries().size());
+		assertEquals(400, workload.count(QueryKind.MINIMAL));
+		assertEquals(300, workload.count(QueryKind.NON_MINIMAL));
+		assertEquals(200, workload.count(QueryKind.SUPERSET));
+		assertEquals(100, workload.count(QueryKind.RANDOM));
+
+		for (QueryWorkload.Query query : workload.getQueries()) {
+			ArrayList<Set<Integer>> col = new ArrayList<Set<Integer>>(cols.get(query.collection));
+			// expected result must be correct
+			assertEquals(query.minimal, QueryWorkload.isMinimal(col, query.set));
+			switch (query.kind) {
+			case MINIMAL:
+				assertTrue(query.minimal);
+				break;
+			case NON_MINIMAL:
+				assertTrue(col.contains(query.set));
+				break;
+			case SUPERSET:
+				assertFalse(query.minimal);
+				assertFalse(col.contains(query.set));
+				break;
+			default:
+			}
+		}
+	}
+
+	@Test
+	public void testReproducible() throws IOException {
+		ArrayList<Collection<Set<Integer>>> cols = SetArena.readResource("/files/jsSets-go-913x25x10.txt")
+				.toCollections();
+		double[] proportions = QueryWorkload.parseProportions("1, 1,0,2");
+		QueryWorkload a = QueryWorkload.generate(cols, 501, proportions, 7);
+		QueryWorkload b = QueryWorkload.generate(cols, 501, proportions, 7);
+
+		assertEquals(0, a.count(QueryKind.SUPERSET));
+		assertEquals(501, a.getQueries().size());
+		for (int i = 0; i < a.queries.size(); i++) {
+			assertEquals(a.queries.get(i).set, b.queries.get(i).set);
+			assertEquals(a.queries.get(i).collection, b.queries.get(i).collection);
+			assertEquals(a.queries.get(i).kind, b.queries.get(i).kind);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidProportions() throws IOException {
+		QueryWorkload.generate(SetArena.readResource("/files/jsSets-Galen_DD-45x16x32.txt").toCollections(), 10,
+				new double[] { 1, 1 }, 42);
+	}
+
+}
@@ -0,0 +1,81 @@
+package com.autoreason.setmincheck;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+public class RandomSetsGeneratorTest {
+
+	@Test
+	public void testGenerate() throws IOException {
+		// more sets than fit into a single block
+		int numSets = RandomSetsGenerator.BLOCK_SIZE * 2 + 100;
+		byte[] file = generate(3, numSets, 8, 1000, 1);
+		SetArena arena = SetArena.read(new ByteArrayInputStream(file));
+		assertEquals(3, arena.collectionCount());
+		assertEquals(3 * numSets, arena.setCount());
+
+		for (int c = 0; c < 3; c++) {
+			int size = arena.getSet(arena.collectionStart[c]).length;
+			assertTrue(size >= 4 && size <= 8);
+			HashSet<List<Integer>> distinct = new HashSet<List<Integer>>();
+			for (int s = arena.collectionStart[c]; s < arena.collectionStart[c + 1]; s++) {
+				int[] set = arena.getSet(s);
+				// all sets of a collection have the same size
+				assertEquals(size, set.length);
+				assertTrue(set[0] >= 0 && set[set.length - 1] < 1000);
+				List<Integer> elements = new ArrayList<Integer>();
+				for (int e : set) {
+					elements.add(e);
+				}
+				distinct.add(elements);
+			}
+			// collection contains no duplicates and is therefore minimal
+			assertEquals(numSets, distinct.size());
+		}
+		// sets are found in the tree, other sets of their size are minimal
+		IntUBTree tree = new IntUBTree(arena, 1);
+		arena.forEach(1, (c, elements, from, to) -> assertFalse(
+				tree.checkMinimal(Arrays.copyOfRange(elements, from, to))));
+		assertTrue(tree.checkMinimal(new int[] { 0, 1, 2 }));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidRange() throws IOException {
+		// only 20 distinct sets of size 2 or 3 in [0, 6), checked before the file
+		// is created
+		RandomSetsGenerator.generate(Paths.get("sets.txt"), 1, 100, 3, 6, 42, 1);
+	}
+
+	@Test
+	public void testDeterministic() throws IOException {
+		byte[] single = generate(2, 10000, 20, 1000, 1);
+		assertTrue(Arrays.equals(single, generate(2, 10000, 20, 1000, 4)));
+		assertTrue(Arrays.equals(single, generate(2, 10000, 20, 1000, 7)));
+		assertFalse(Arrays.equals(single, generate(2, 10000, 20, 1000, 4, 43)));
+	}
+
+	private static byte[] generate(int numCols, int numSets, int maxSize, int range, int threads)
+			throws IOException {
+		return generate(numCols, numSets, maxSize, range, threads, 42);
+	}
+
+	private static byte[] generate(int numCols, int numSets, int maxSize, int range, int threads, long seed)
+			throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		RandomSetsGenerator.generate(out, numCols, numSets, maxSize, range, seed, threads);
+		return out.toByteArray();
+	}
+
+}
@@ -0,0 +1,103 @@
+package com.autoreason.setmincheck;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class RoaringSetTest {
+
+	@Test
+	public void testContainers() {
+		// sparse values in array container, negative values sorted as unsigned
+		RoaringSet array = new RoaringSet(new int[] { 5, 70000, 3, -1, 5, 100 });
+		assertEquals(5, array.cardinality());
+		assertEquals(3, array.keys.length);
+		assertTrue(array.containers[0] instanceof RoaringSet.ArrayContainer);
+		assertEquals((char) 0xFFFF, array.keys[2]);
+		assertTrue(array.contains(-1));
+		assertTrue(array.contains(70000));
+		assertFalse(array.contains(4));
+		assertFalse(array.contains(-2));
+
+		// consecutive values in run container
+		RoaringSet run = new RoaringSet(IntStream.concat(IntStream.range(0, 10000), IntStream.range(20000, 20100))
+				.toArray());
+		assertTrue(run.containers[0] instanceof RoaringSet.RunContainer);
+		assertEquals(8, run.sizeInBytes() - 2);
+		assertTrue(run.contains(9999));
+		assertTrue(run.contains(20000));
+		assertFalse(run.contains(10000));
+
+		// dense values in bitmap container
+		RoaringSet bitmap = new RoaringSet(IntStream.range(0, 30000).map(i -> 2 * i).toArray());
+		assertTrue(bitmap.containers[0] instanceof RoaringSet.BitmapContainer);
+		assertEquals(RoaringSet.BITMAP_BYTES, bitmap.sizeInBytes() - 2);
+		assertTrue(bitmap.contains(59998));
+		assertFalse(bitmap.contains(59999));
+	}
+
+	@Test
+	public void testIsSubsetOf() {
+		Random random = new Random(42);
+		for (int t = 0; t < 500; t++) {
+			Set<Integer> a = randomSet(random);
+			Set<Integer> b = randomSet(random);
+			if (random.nextBoolean()) {
+				// ensure some subset relations
+				b.addAll(a);
+			}
+			RoaringSet ra = new RoaringSet(a);
+			RoaringSet rb = new RoaringSet(b);
+			assertEquals(b.containsAll(a), ra.isSubsetOf(rb));
+			assertEquals(a.containsAll(b), rb.isSubsetOf(ra));
+			assertEquals(a.equals(b), ra.equals(rb));
+			for (int v : a) {
+				assertTrue(ra.contains(v));
+			}
+		}
+		assertTrue(new RoaringSet(new int[0]).isSubsetOf(new RoaringSet(new int[] { 1 })));
+		assertEquals(new RoaringSet(Arrays.asList(1, 2, 3)), new RoaringSet(new int[] { 3, 2, 1 }));
+		assertFalse(new RoaringSet(Arrays.asList(1, 2, 3)).equals(new RoaringSet(new int[] { 3, 2, 4 })));
+	}
+
+	/**
+	 * Create a set with a random mix of sparse values, runs and dense regions in
+	 * a few containers
+	 */
+	private static Set<Integer> randomSet(Random random) {
+		Set<Integer> set = new HashSet<Integer>();
+		int parts = random.nextInt(4);
+		for (int p = 0; p < parts; p++) {
+			int base = (random.nextInt(3) - 1) << 16;
+			switch (random.nextInt(3)) {
+			case 0:
+				for (int i = random.nextInt(50); i > 0; i--) {
+					set.add(base + random.nextInt(1 << 16));
+				}
+				break;
+			case 1:
+				int start = random.nextInt(60000);
+				for (int i = start + random.nextInt(5000); i >= start; i--) {
+					set.add(base + i);
+				}
+				break;
+			default:
+				for (int i = 0; i < 1 << 16; i++) {
+					if (random.nextInt(4) > 0) {
+						set.add(base + i);
+					}
+				}
+			}
+		}
+		return set;
+	}
+
+}
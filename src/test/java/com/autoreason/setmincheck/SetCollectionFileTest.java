@@ -0,0 +1,77 @@
+package com.autoreason.setmincheck;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class SetCollectionFileTest {
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		SetArena arena = new SetArena(new int[] { -300, -1, 0, 5, 1000000, 7, 3, 4 }, new int[] { 0, 5, 6, 6, 8 },
+				new int[] { 0, 2, 2, 4 });
+		Path file = Files.createTempFile("sets", ".bin");
+		try {
+			SetCollectionFile.write(arena, file);
+			SetArena read = SetCollectionFile.read(file);
+			assertEquals(3, read.collectionCount());
+			assertEquals(4, read.setCount());
+			assertArrayEquals(arena.elements, read.elements);
+			assertArrayEquals(arena.setStart, read.setStart);
+			assertArrayEquals(arena.collectionStart, read.collectionStart);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void testConvertResource() throws IOException {
+		String resource = "/files/jsSets-Galen_DD-45x16x32.txt";
+		Path file = Files.createTempFile("sets", ".bin");
+		try {
+			SetCollectionFile.convert(getClass().getResourceAsStream(resource), file);
+			SetArena text = SetArena.readResource(resource);
+			SetArena binary = SetCollectionFile.read(file);
+			assertArrayEquals(text.elements, binary.elements);
+			assertArrayEquals(text.setStart, binary.setStart);
+			assertArrayEquals(text.collectionStart, binary.collectionStart);
+			assertEquals(text.toCollections(), binary.toCollections());
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testInvalidMagic() throws IOException {
+		Path file = Files.createTempFile("sets", ".bin");
+		try {
+			Files.write(file, "0 1 2 \n".getBytes(StandardCharsets.US_ASCII));
+			SetCollectionFile.read(file);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testTruncated() throws IOException {
+		Path file = Files.createTempFile("sets", ".bin");
+		try {
+			SetCollectionFile.convert(
+					new ByteArrayInputStream("1 2 3 \n4 5 \n\n6 \n".getBytes(StandardCharsets.US_ASCII)), file);
+			byte[] bytes = Files.readAllBytes(file);
+			Files.write(file, Arrays.copyOf(bytes, bytes.length - 2));
+			SetCollectionFile.read(file);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+}
@@ -0,0 +1,98 @@
+package com.autoreason.setmincheck;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class SetFileParserTest {
+
+	@Test
+	public void testParse() throws IOException {
+		ArrayList<String> visited = new ArrayList<String>();
+		int cols = SetFileParser.parse(stream("0 1 2 3 \n5 4 \n\n7 6 6 \r\n\n\n12"),
+				(c, elements, from, to) -> visited.add(c + ":" + Arrays.toString(Arrays.copyOfRange(elements, from, to))));
+
+		assertEquals(3, cols);
+		assertEquals(Arrays.asList("0:[0, 1, 2, 3]", "0:[4, 5]", "1:[6, 7]", "2:[12]"), visited);
+
+		assertEquals(0, SetFileParser.parse(stream("\n\n"), (c, elements, from, to) -> visited.add("")));
+		assertEquals(4, visited.size());
+	}
+
+	@Test(expected = IOException.class)
+	public void testParseInvalid() throws IOException {
+		SetFileParser.parse(stream("1 2 x\n"), (c, elements, from, to) -> {
+		});
+	}
+
+	@Test
+	public void testParseNegative() throws IOException {
+		ArrayList<String> visited = new ArrayList<String>();
+		SetFileParser.parse(stream("-3 2147483647 -2147483648 \n-5"),
+				(c, elements, from, to) -> visited.add(Arrays.toString(Arrays.copyOfRange(elements, from, to))));
+		assertEquals(Arrays.asList("[-2147483648, -3, 2147483647]", "[-5]"), visited);
+
+		// dangling or repeated signs and numbers out of range
+		for (String invalid : new String[] { "- 3\n", "-\n5\n", "1 -", "--3\n", "2147483648\n",
+				"-2147483649\n", "99999999999999999999\n" }) {
+			try {
+				SetFileParser.parse(stream(invalid), (c, elements, from, to) -> {
+				});
+				fail("IOException expected for " + invalid);
+			} catch (IOException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void testArena() throws IOException {
+		SetArena arena = SetArena.read(stream("3 1 2 \n4 \n\n\n5 6 \n"));
+		assertEquals(2, arena.collectionCount());
+		assertEquals(3, arena.setCount());
+		assertArrayEquals(new int[] { 1, 2, 3 }, arena.getSet(0));
+		assertArrayEquals(new int[] { 5, 6 }, arena.getSet(2));
+
+		ArrayList<Integer> sizes = new ArrayList<Integer>();
+		arena.forEach(0, (c, elements, from, to) -> sizes.add(to - from));
+		assertEquals(Arrays.asList(3, 1), sizes);
+	}
+
+	@Test
+	public void testReadResource() throws IOException {
+		SetArena arena = SetArena.readResource("/files/jsSets-go-913x25x10.txt");
+		assertEquals(913, arena.collectionCount());
+		assertEquals(17357, arena.setCount());
+		assertArrayEquals(new int[] { 0, 1, 2, 3 }, arena.getSet(0));
+
+		// build tree directly from arena
+		IntUBTree tree = new IntUBTree(arena, 0);
+		arena.forEach(0, (c, elements, from, to) -> assertTrue(!tree.checkMinimal(Arrays.copyOfRange(elements, from, to))));
+		for (int s = arena.collectionStart[1]; s < arena.collectionStart[2]; s++) {
+			int[] set = arena.getSet(s);
+			boolean minimal = true;
+			for (int t = arena.collectionStart[0]; t < arena.collectionStart[1]; t++) {
+				int[] other = arena.getSet(t);
+				if (Arrays.stream(other).allMatch(e -> Arrays.binarySearch(set, e) > -1)) {
+					minimal = false;
+				}
+			}
+			assertEquals(minimal, tree.checkMinimal(set));
+		}
+	}
+
+	private static InputStream stream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII));
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.autoreason.setmincheck;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Random sets shared by the tests of the tree structures
+ *
+ */
+class TestSets {
+
+	/**
+	 * Create a set of random size with random elements
+	 *
+	 * @param r       A {@link Random} object
+	 * @param maxSize An {@code int} defining the maximum number of elements
+	 * @param range   An {@code int} defining the upper limit of the elements
+	 * @return A {@link Set} with between 1 and {@code maxSize} elements from
+	 *         {@code [0, range)}
+	 */
+	static Set<Integer> randomSet(Random r, int maxSize, int range) {
+		Set<Integer> set = new HashSet<Integer>();
+		int size = 1 + r.nextInt(maxSize);
+		while (set.size() < size) {
+			set.add(r.nextInt(range));
+		}
+		return set;
+	}
+
+}
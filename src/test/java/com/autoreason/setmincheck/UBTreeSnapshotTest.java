@@ -0,0 +1,121 @@
+package com.autoreason.setmincheck;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+public class UBTreeSnapshotTest {
+
+	@Test
+	public void testWriteAndOpen() throws IOException {
+		UBTree<Integer> ubTree = new UBTree<Integer>();
+		ubTree.insert(new TreeSet<Integer>(Arrays.asList(1, 3)));
+		ubTree.insert(new TreeSet<Integer>(Arrays.asList(1, 7, 9)));
+		ubTree.insert(new TreeSet<Integer>(Arrays.asList(3, 7)));
+
+		Path file = Files.createTempFile("ubtree", ".ubt");
+		try {
+			UBTreeSnapshot.write(ubTree, file);
+			MappedUBTree mapped = UBTreeSnapshot.open(file);
+
+			assertEquals(7, mapped.size());
+			assertFalse(mapped.checkMinimal(new int[] { 1, 3 }));
+			assertFalse(mapped.checkMinimal(new int[] { 1, 2, 7, 8, 9 }));
+			assertFalse(mapped.checkMinimal(new int[] { 3, 5, 7 }));
+			assertTrue(mapped.checkMinimal(new int[] { 1, 7, 8 }));
+			assertTrue(mapped.checkMinimal(new int[] { 3, 9 }));
+			assertTrue(mapped.checkMinimal(new int[0]));
+		} finally {
+			// file cannot be deleted on every platform while it is mapped
+			file.toFile().deleteOnExit();
+		}
+	}
+
+	@Test
+	public void testSameResultAsFrozenUBTree() throws IOException {
+		Random r = new Random(3);
+		Collection<Set<Integer>> col = new ArrayList<Set<Integer>>();
+		for (int i = 0; i < 100; i++) {
+			Set<Integer> set = new HashSet<Integer>();
+			set.add(i);
+			set.add(100 + r.nextInt(20));
+			col.add(set);
+		}
+		UBTree<Integer> ubTree = new UBTree<Integer>(col);
+		FrozenUBTree<Integer> frozen = ubTree.freeze();
+
+		Path file = Files.createTempFile("ubtree", ".ubt");
+		try {
+			UBTreeSnapshot.write(ubTree, file);
+			MappedUBTree mapped = UBTreeSnapshot.open(file);
+
+			assertEquals(frozen.size(), mapped.size());
+			for (int i = 0; i < 500; i++) {
+				Set<Integer> test = new HashSet<Integer>();
+				for (int j = 0; j < 5; j++) {
+					test.add(r.nextInt(120));
+				}
+				assertEquals(frozen.checkMinimal(test), mapped.checkMinimal(IntUBTree.toSortedArray(test)));
+			}
+		} finally {
+			// file cannot be deleted on every platform while it is mapped
+			file.toFile().deleteOnExit();
+		}
+	}
+
+	@Test
+	public void testUnsupportedVersion() throws IOException {
+		Path file = Files.createTempFile("ubtree", ".ubt");
+		try {
+			ByteBuffer buffer = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+			buffer.putInt(UBTreeSnapshot.MAGIC).putInt(UBTreeSnapshot.VERSION + 1).putInt(1);
+			Files.write(file, buffer.array());
+			try {
+				UBTreeSnapshot.open(file);
+				fail("IOException expected");
+			} catch (IOException e) {
+				assertTrue(e.getMessage().startsWith("Unsupported"));
+			}
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void testCorruptNodeNumber() throws IOException {
+		// node numbers whose expected size exceeds the range of int
+		for (int nodeNr : new int[] { -1, 0, Integer.MAX_VALUE, 0x55555556 }) {
+			Path file = Files.createTempFile("ubtree", ".ubt");
+			try {
+				ByteBuffer buffer = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+				buffer.putInt(UBTreeSnapshot.MAGIC).putInt(UBTreeSnapshot.VERSION).putInt(nodeNr).putInt(0);
+				Files.write(file, buffer.array());
+				try {
+					UBTreeSnapshot.open(file);
+					fail("IOException expected");
+				} catch (IOException e) {
+					assertTrue(e.getMessage().startsWith("Truncated"));
+				}
+			} finally {
+				file.toFile().deleteOnExit();
+			}
+		}
+	}
+
+}
@@ -1,11 +1,17 @@
 package com.autoreason.setmincheck;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.Test;
 
@@ -143,4 +149,459 @@ public class UBTreeTest {
 
 	}
 
+	@Test
+	public void testContainsSubsetOf() {
+		UBTreeNode<Integer> n0 = new UBTreeNode<Integer>(0);
+		UBTreeNode<Integer> n1 = new UBTreeNode<Integer>(1);
+		UBTreeNode<Integer> n2 = new UBTreeNode<Integer>(2, true);
+		UBTreeNode<Integer> n3 = new UBTreeNode<Integer>(3);
+		UBTreeNode<Integer> n4 = new UBTreeNode<Integer>(4, true);
+
+		n0.children.add(n1);
+		n1.children.add(n2);
+		n3.children.add(n4);
+
+		ArrayList<UBTreeNode<Integer>> nodes = new ArrayList<UBTreeNode<Integer>>();
+		n0.determineDistanceToNextEOP();
+		n3.determineDistanceToNextEOP();
+		nodes.add(n0);
+		nodes.add(n3);
+
+		UBTree<Integer> ubTree = new UBTree<Integer>();
+		ArrayList<Integer> set = new ArrayList<Integer>();
+		set.add(0);
+		set.add(2);
+		set.add(3);
+		assertFalse(ubTree.containsSubsetOf(nodes, set, 0));
+		set.add(4);
+		assertTrue(ubTree.containsSubsetOf(nodes, set, 0));
+		assertFalse(ubTree.containsSubsetOf(nodes, set, 3));
+		set.add(1, 1);
+		assertTrue(ubTree.containsSubsetOf(nodes, set, 0));
+	}
+
+	@Test
+	public void testCheckMinimal() {
+		UBTree<Integer> ubTree = new UBTree<Integer>();
+		ubTree.insert(new TreeSet<Integer>(Arrays.asList(1, 2, 3, 4)));
+		ubTree.insert(new TreeSet<Integer>(Arrays.asList(2, 5)));
+
+		assertFalse(ubTree.checkMinimal(new TreeSet<Integer>(Arrays.asList(0, 1, 2, 3, 4))));
+		assertFalse(ubTree.checkMinimal(new TreeSet<Integer>(Arrays.asList(2, 5))));
+		assertTrue(ubTree.checkMinimal(new TreeSet<Integer>(Arrays.asList(1, 3, 4, 5))));
+		assertTrue(ubTree.checkMinimal(new TreeSet<Integer>()));
+	}
+
+	@Test
+	public void testInsertKeepsNodesSorted() {
+		UBTree<Integer> ubTree = new UBTree<Integer>();
+		ubTree.insert(new TreeSet<Integer>(Arrays.asList(3, 7)));
+		ubTree.insert(new TreeSet<Integer>(Arrays.asList(1, 7, 9)));
+		ubTree.insert(new TreeSet<Integer>(Arrays.asList(1, 3)));
+		ubTree.insert(new TreeSet<Integer>(Arrays.asList(2)));
+
+		assertEquals(3, ubTree.T.size());
+		assertSorted(ubTree.T);
+		assertSorted(ubTree.T.get(0).children);
+		assertFalse(ubTree.checkMinimal(new TreeSet<Integer>(Arrays.asList(1, 3, 4))));
+	}
+
+	@Test
+	public void testBulkLoad() {
+		Random r = new Random(11);
+		Collection<Set<Integer>> col = new ArrayList<Set<Integer>>();
+		for (int i = 0; i < 300; i++) {
+			col.add(TestSets.randomSet(r, 8, 40));
+		}
+		UBTree<Integer> bulkTree = new UBTree<Integer>(col);
+		UBTree<Integer> insertTree = new UBTree<Integer>();
+		for (Set<Integer> set : col) {
+			insertTree.insert(set);
+		}
+
+		// both trees have the same structure
+		assertSameNodes(insertTree.T, bulkTree.T);
+		assertDistances(bulkTree.T);
+
+		for (int i = 0; i < 1000; i++) {
+			Set<Integer> test = TestSets.randomSet(r, 20, 50);
+			// compare with check of every set
+			boolean minimal = true;
+			for (Set<Integer> set : col) {
+				if (test.containsAll(set)) {
+					minimal = false;
+				}
+			}
+			assertEquals(minimal, bulkTree.checkMinimal(test));
+			assertEquals(minimal, insertTree.checkMinimal(test));
+		}
+	}
+
+	@Test
+	public void testBulkLoadEmptySet() {
+		Collection<Set<Integer>> col = new ArrayList<Set<Integer>>();
+		col.add(new TreeSet<Integer>(Arrays.asList(1, 2)));
+		col.add(new TreeSet<Integer>());
+		col.add(new TreeSet<Integer>(Arrays.asList(3)));
+		UBTree<Integer> bulkTree = new UBTree<Integer>(col);
+		assertFalse(bulkTree.checkMinimal(new TreeSet<Integer>(Arrays.asList(4))));
+		assertFalse(bulkTree.checkMinimal(new TreeSet<Integer>()));
+		assertFalse(new UBTree<Integer>(col, true).checkMinimal(new TreeSet<Integer>(Arrays.asList(4))));
+		assertFalse(bulkTree.freeze().checkMinimal(new TreeSet<Integer>(Arrays.asList(4))));
+		assertFalse(new OrderedUBTree<Integer>(col).checkMinimal(new TreeSet<Integer>(Arrays.asList(4))));
+	}
+
+	@Test
+	public void testBulkLoadEqualsInsertion() {
+		Random r = new Random(13);
+		for (int round = 0; round < 20; round++) {
+			Collection<Set<Integer>> col = new ArrayList<Set<Integer>>();
+			for (int i = 0; i < 50; i++) {
+				col.add(TestSets.randomSet(r, 5, 20));
+			}
+			// empty set in some collections
+			if (round % 2 == 0) {
+				col.add(new HashSet<Integer>());
+			}
+			UBTree<Integer> bulkTree = new UBTree<Integer>(col);
+			UBTree<Integer> insertTree = new UBTree<Integer>();
+			for (Set<Integer> set : col) {
+				insertTree.insert(set);
+			}
+			assertEquals(insertTree.containsEmptySet, bulkTree.containsEmptySet);
+			assertSameNodes(insertTree.T, bulkTree.T);
+			FrozenUBTree<Integer> frozen = bulkTree.freeze();
+			for (int i = 0; i < 100; i++) {
+				Set<Integer> test = TestSets.randomSet(r, 10, 25);
+				boolean minimal = insertTree.checkMinimal(test);
+				assertEquals(minimal, bulkTree.checkMinimal(test));
+				assertEquals(minimal, frozen.checkMinimal(test));
+				if (round % 2 == 0) {
+					assertFalse(minimal);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testLookup_supersets() {
+		UBTree<Integer> ubTree = new UBTree<Integer>();
+		ubTree.insert(new TreeSet<Integer>(Arrays.asList(1, 2, 3)));
+		ubTree.insert(new TreeSet<Integer>(Arrays.asList(1, 3)));
+		ubTree.insert(new TreeSet<Integer>(Arrays.asList(2, 3, 4)));
+		ubTree.insert(new TreeSet<Integer>(Arrays.asList(4, 5)));
+
+		Collection<Set<Integer>> supersets = ubTree.lookup_supersets(new TreeSet<Integer>(Arrays.asList(3)));
+		assertEquals(3, supersets.size());
+		assertTrue(supersets.contains(new TreeSet<Integer>(Arrays.asList(1, 2, 3))));
+		assertTrue(supersets.contains(new TreeSet<Integer>(Arrays.asList(1, 3))));
+		assertTrue(supersets.contains(new TreeSet<Integer>(Arrays.asList(2, 3, 4))));
+
+		supersets = ubTree.lookup_supersets(new TreeSet<Integer>(Arrays.asList(2, 3)));
+		assertEquals(2, supersets.size());
+		assertTrue(ubTree.lookup_supersets(new TreeSet<Integer>(Arrays.asList(1, 4))).isEmpty());
+		assertEquals(4, ubTree.lookup_supersets(new TreeSet<Integer>()).size());
+	}
+
+	@Test
+	public void testInsertIfMinimal() {
+		UBTree<Integer> ubTree = new UBTree<Integer>();
+		assertTrue(ubTree.insertIfMinimal(new TreeSet<Integer>(Arrays.asList(1, 2, 3))));
+		assertTrue(ubTree.insertIfMinimal(new TreeSet<Integer>(Arrays.asList(1, 4))));
+		assertFalse(ubTree.insertIfMinimal(new TreeSet<Integer>(Arrays.asList(1, 2, 3, 4))));
+		assertFalse(ubTree.insertIfMinimal(new TreeSet<Integer>(Arrays.asList(1, 4))));
+		// removes both stored sets
+		assertTrue(ubTree.insertIfMinimal(new TreeSet<Integer>(Arrays.asList(1))));
+		assertEquals(1, ubTree.T.size());
+		assertTrue(ubTree.T.get(0).children.isEmpty());
+		assertTrue(ubTree.T.get(0).endOfPath);
+		assertEquals(0, ubTree.T.get(0).distanceToNextEOP);
+	}
+
+	@Test
+	public void testInsertIfMinimalEmptySet() {
+		UBTree<Integer> ubTree = new UBTree<Integer>();
+		assertTrue(ubTree.insertIfMinimal(new TreeSet<Integer>(Arrays.asList(1, 2))));
+		// removes all stored sets
+		assertTrue(ubTree.insertIfMinimal(new TreeSet<Integer>()));
+		assertTrue(ubTree.T.isEmpty());
+		assertFalse(ubTree.insertIfMinimal(new TreeSet<Integer>()));
+		assertFalse(ubTree.insertIfMinimal(new TreeSet<Integer>(Arrays.asList(3))));
+		assertFalse(ubTree.checkMinimal(new TreeSet<Integer>(Arrays.asList(3))));
+		assertFalse(ubTree.checkMinimal(new TreeSet<Integer>()));
+		assertFalse(ubTree.freeze().checkMinimal(new TreeSet<Integer>(Arrays.asList(3))));
+		assertEquals(1, ubTree.lookup_supersets(new TreeSet<Integer>()).size());
+		// empty tree again
+		assertTrue(ubTree.remove(new TreeSet<Integer>()));
+		assertTrue(ubTree.checkMinimal(new TreeSet<Integer>(Arrays.asList(3))));
+		assertTrue(ubTree.freeze().checkMinimal(new TreeSet<Integer>(Arrays.asList(3))));
+	}
+
+	@Test
+	public void testInsertIfMinimalRandom() {
+		Random r = new Random(5);
+		UBTree<Integer> ubTree = new UBTree<Integer>();
+		// minimal sets determined by checking every set
+		Collection<Set<Integer>> minimalSets = new ArrayList<Set<Integer>>();
+		for (int i = 0; i < 500; i++) {
+			Set<Integer> set = TestSets.randomSet(r, 6, 25);
+			boolean minimal = true;
+			for (Set<Integer> other : minimalSets) {
+				if (set.containsAll(other)) {
+					minimal = false;
+				}
+			}
+			if (minimal) {
+				minimalSets.removeIf(other -> other.containsAll(set));
+				minimalSets.add(set);
+			}
+			assertEquals(minimal, ubTree.insertIfMinimal(set));
+		}
+		Collection<Set<Integer>> stored = ubTree.lookup_supersets(new HashSet<Integer>());
+		assertEquals(new HashSet<Set<Integer>>(minimalSets), new HashSet<Set<Integer>>(stored));
+		assertDistances(ubTree.T);
+	}
+
+	@Test
+	public void testRemove() {
+		UBTree<Integer> ubTree = new UBTree<Integer>();
+		ubTree.insert(new TreeSet<Integer>(Arrays.asList(1, 2, 3)));
+		ubTree.insert(new TreeSet<Integer>(Arrays.asList(1, 2, 3, 4, 5)));
+		ubTree.insert(new TreeSet<Integer>(Arrays.asList(1, 6)));
+
+		assertFalse(ubTree.remove(new TreeSet<Integer>(Arrays.asList(1, 2))));
+		assertFalse(ubTree.remove(new TreeSet<Integer>(Arrays.asList(7))));
+
+		assertTrue(ubTree.remove(new TreeSet<Integer>(Arrays.asList(1, 2, 3))));
+		assertFalse(ubTree.checkMinimal(new TreeSet<Integer>(Arrays.asList(1, 2, 3, 4, 5))));
+		assertTrue(ubTree.checkMinimal(new TreeSet<Integer>(Arrays.asList(1, 2, 3, 4))));
+		// node for 1 still leads to {1, 6}
+		assertEquals(1, ubTree.T.get(0).distanceToNextEOP);
+
+		assertTrue(ubTree.remove(new TreeSet<Integer>(Arrays.asList(1, 6))));
+		assertEquals(4, ubTree.T.get(0).distanceToNextEOP);
+		assertEquals(1, ubTree.T.get(0).children.size());
+
+		assertTrue(ubTree.remove(new TreeSet<Integer>(Arrays.asList(1, 2, 3, 4, 5))));
+		assertTrue(ubTree.T.isEmpty());
+	}
+
+	@Test
+	public void testRemoveRandom() {
+		Random r = new Random(13);
+		ArrayList<Set<Integer>> col = new ArrayList<Set<Integer>>();
+		for (int i = 0; i < 300; i++) {
+			col.add(TestSets.randomSet(r, 8, 30));
+		}
+		UBTree<Integer> ubTree = new UBTree<Integer>(col);
+		Set<Set<Integer>> remaining = new HashSet<Set<Integer>>(col);
+		for (int i = 0; i < 150; i++) {
+			Set<Integer> set = col.get(r.nextInt(col.size()));
+			assertEquals(remaining.remove(set), ubTree.remove(set));
+		}
+		assertDistances(ubTree.T);
+		assertBounds(ubTree.T);
+		assertEquals(remaining, new HashSet<Set<Integer>>(ubTree.lookup_supersets(new HashSet<Integer>())));
+	}
+
+	@Test
+	public void testBounds() {
+		UBTree<Integer> ubTree = new UBTree<Integer>();
+		ubTree.insert(new HashSet<Integer>(Arrays.asList(1, 2, 9)));
+		ubTree.insert(new HashSet<Integer>(Arrays.asList(1, 4)));
+		ubTree.insert(new HashSet<Integer>(Arrays.asList(1, 3, 6, 7)));
+
+		UBTreeNode<Integer> n1 = ubTree.T.get(0);
+		assertEquals(4, (int) n1.minEnd);
+		assertEquals(9, (int) n1.maxElement);
+		assertEquals(7, (int) n1.children.get(1).minEnd);
+
+		// sets ending after greatest element are pruned
+		assertTrue(ubTree.checkMinimal(new HashSet<Integer>(Arrays.asList(1, 2, 3))));
+		assertFalse(ubTree.checkMinimal(new HashSet<Integer>(Arrays.asList(1, 2, 3, 4))));
+		// sets not reaching greatest element are pruned
+		assertTrue(ubTree.lookup_supersets(new HashSet<Integer>(Arrays.asList(1, 10))).isEmpty());
+		assertEquals(1, ubTree.lookup_supersets(new HashSet<Integer>(Arrays.asList(1, 7))).size());
+
+		ubTree.remove(new HashSet<Integer>(Arrays.asList(1, 4)));
+		assertEquals(7, (int) n1.minEnd);
+		ubTree.remove(new HashSet<Integer>(Arrays.asList(1, 2, 9)));
+		assertEquals(7, (int) n1.maxElement);
+		assertBounds(ubTree.T);
+
+		Random r = new Random(31);
+		for (int i = 0; i < 300; i++) {
+			ubTree.insert(TestSets.randomSet(r, 8, 40));
+		}
+		assertBounds(ubTree.T);
+	}
+
+	@Test
+	public void testCheckMinimalParallel() {
+		Random r = new Random(19);
+		Collection<Set<Integer>> col = new ArrayList<Set<Integer>>();
+		for (int i = 0; i < 2000; i++) {
+			col.add(TestSets.randomSet(r, 10, 1000));
+		}
+		UBTree<Integer> ubTree = new UBTree<Integer>(col);
+		UBTree<Integer> signatureTree = new UBTree<Integer>(col, true);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			for (int i = 0; i < 200; i++) {
+				// small and large test sets
+				Set<Integer> test = TestSets.randomSet(r, i % 2 == 0 ? 20 : 500, 1000);
+				assertEquals(ubTree.checkMinimal(test), ubTree.checkMinimalParallel(test, pool));
+				assertEquals(ubTree.checkMinimal(test), signatureTree.checkMinimalParallel(test, pool));
+			}
+			for (Set<Integer> set : col) {
+				Set<Integer> test = new HashSet<Integer>(set);
+				test.addAll(TestSets.randomSet(r, 200, 1000));
+				assertFalse(ubTree.checkMinimalParallel(test, pool));
+				assertFalse(signatureTree.checkMinimalParallel(test, pool));
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testCheckMinimalBatch() {
+		Random r = new Random(23);
+		Collection<Set<Integer>> col = new ArrayList<Set<Integer>>();
+		for (int i = 0; i < 500; i++) {
+			col.add(TestSets.randomSet(r, 6, 100));
+		}
+		UBTree<Integer> ubTree = new UBTree<Integer>(col);
+		UBTree<Integer> signatureTree = new UBTree<Integer>(col, true);
+
+		// batch of random sets, supersets of contained sets, duplicates and the empty
+		// set
+		List<Set<Integer>> batch = new ArrayList<Set<Integer>>();
+		for (int i = 0; i < 300; i++) {
+			batch.add(TestSets.randomSet(r, 12, 100));
+		}
+		for (Set<Integer> set : col) {
+			if (r.nextInt(5) == 0) {
+				Set<Integer> test = new HashSet<Integer>(set);
+				test.addAll(TestSets.randomSet(r, 5, 100));
+				batch.add(test);
+			}
+		}
+		for (int i = 0; i < 50; i++) {
+			batch.add(new HashSet<Integer>(batch.get(r.nextInt(batch.size()))));
+		}
+		batch.add(new HashSet<Integer>());
+		Collections.shuffle(batch, r);
+
+		BitSet minimal = ubTree.checkMinimalBatch(batch);
+		BitSet signatureMinimal = signatureTree.checkMinimalBatch(batch);
+		for (int i = 0; i < batch.size(); i++) {
+			assertEquals(ubTree.checkMinimal(batch.get(i)), minimal.get(i));
+			assertEquals(ubTree.checkMinimal(batch.get(i)), signatureMinimal.get(i));
+		}
+
+		assertTrue(ubTree.checkMinimalBatch(new ArrayList<Set<Integer>>()).isEmpty());
+	}
+
+	@Test
+	public void testSignatures() {
+		UBTree<Integer> ubTree = new UBTree<Integer>();
+		ubTree.insert(new HashSet<Integer>(Arrays.asList(1, 2, 5)));
+		ubTree.insert(new HashSet<Integer>(Arrays.asList(1, 3, 5)));
+		ubTree.insert(new HashSet<Integer>(Arrays.asList(2, 4)));
+
+		// elements shared by all sets below node
+		UBTreeNode<Integer> n1 = ubTree.T.get(0);
+		assertEquals(1L << 1 | 1L << 5, n1.signature);
+		assertEquals(1L << 2 | 1L << 5, n1.children.get(0).signature);
+		assertEquals(1L << 5, n1.children.get(0).children.get(0).signature);
+		assertEquals(1L << 2 | 1L << 4, ubTree.T.get(1).signature);
+		ubTree.insert(new HashSet<Integer>(Arrays.asList(1, 3)));
+		assertEquals(1L << 1, n1.signature);
+		assertEquals(1L << 3, n1.children.get(1).signature);
+
+		// signatures are restored after removal
+		ubTree.remove(new HashSet<Integer>(Arrays.asList(1, 3)));
+		assertEquals(1L << 1 | 1L << 5, n1.signature);
+
+		// minimality check with signatures (including hash collisions)
+		Random r = new Random(29);
+		Collection<Set<Integer>> col = new ArrayList<Set<Integer>>();
+		for (int i = 0; i < 1000; i++) {
+			col.add(TestSets.randomSet(r, 8, 300));
+		}
+		UBTree<Integer> sigTree = new UBTree<Integer>(col, true);
+		UBTree<Integer> plainTree = new UBTree<Integer>(col);
+		for (int i = 0; i < 1000; i++) {
+			Set<Integer> test = TestSets.randomSet(r, 60, 300);
+			assertEquals(plainTree.checkMinimal(test), sigTree.checkMinimal(test));
+		}
+		for (Set<Integer> set : col) {
+			Set<Integer> test = new HashSet<Integer>(set);
+			test.addAll(TestSets.randomSet(r, 10, 300));
+			assertFalse(sigTree.checkMinimal(test));
+		}
+	}
+
+	/**
+	 * Assert that the distances to the next end-of-path node are consistent with
+	 * the tree structure
+	 * 
+	 * @return the minimum distance of the given nodes
+	 */
+	static int assertDistances(ArrayList<UBTreeNode<Integer>> nodes) {
+		int minDistance = Integer.MAX_VALUE;
+		for (UBTreeNode<Integer> node : nodes) {
+			int childDistance = assertDistances(node.children);
+			int expected = node.endOfPath ? 0 : childDistance + 1;
+			assertEquals(expected, node.distanceToNextEOP);
+			minDistance = Math.min(minDistance, expected);
+		}
+		return minDistance;
+	}
+
+	/**
+	 * Assert that the element bounds of the given nodes and their descendants are
+	 * correct
+	 * 
+	 * @param nodes An {@link ArrayList} of {@link UBTreeNode} objects
+	 * @return An {@code int[]} with the smallest end and the greatest element of
+	 *         the sets below {@code nodes}
+	 */
+	static int[] assertBounds(ArrayList<UBTreeNode<Integer>> nodes) {
+		int[] bounds = { Integer.MAX_VALUE, Integer.MIN_VALUE };
+		for (UBTreeNode<Integer> node : nodes) {
+			int[] childBounds = assertBounds(node.children);
+			int minEnd = node.endOfPath ? node.element : childBounds[0];
+			int max = node.children.isEmpty() ? node.element : childBounds[1];
+			assertEquals(minEnd, (int) node.minEnd);
+			assertEquals(max, (int) node.maxElement);
+			bounds[0] = Math.min(bounds[0], minEnd);
+			bounds[1] = Math.max(bounds[1], max);
+		}
+		return bounds;
+	}
+
+	private static void assertSorted(ArrayList<UBTreeNode<Integer>> nodes) {
+		for (int i = 1; i < nodes.size(); i++) {
+			assertTrue(nodes.get(i - 1).element < nodes.get(i).element);
+		}
+	}
+
+	private static void assertSameNodes(ArrayList<UBTreeNode<Integer>> expected, ArrayList<UBTreeNode<Integer>> actual) {
+		assertEquals(expected.size(), actual.size());
+		assertSorted(actual);
+		for (int i = 0; i < expected.size(); i++) {
+			UBTreeNode<Integer> e = expected.get(i);
+			UBTreeNode<Integer> a = actual.get(i);
+			assertEquals(e.element, a.element);
+			assertEquals(e.endOfPath, a.endOfPath);
+			assertEquals(e.distanceToNextEOP, a.distanceToNextEOP);
+			assertEquals(e.signature, a.signature);
+			assertEquals(e.minEnd, a.minEnd);
+			assertEquals(e.maxElement, a.maxElement);
+			assertSameNodes(e.children, a.children);
+		}
+	}
+
 }
@@ -0,0 +1,101 @@
+package com.autoreason.setmincheck;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class WideBitVectorIndexTest {
+
+	@Test
+	public void testCheckMinimal() {
+		ArrayList<int[]> sets = new ArrayList<int[]>();
+		sets.add(new int[] { 1, 2, 3 });
+		sets.add(new int[] { -5, 1000 });
+		sets.add(new int[] { 4 });
+		WideBitVectorIndex index = new WideBitVectorIndex(sets);
+		assertEquals(6, index.universe.length);
+		assertArrayEquals(new int[] { 1, 2, 3 }, index.cardinality);
+
+		assertFalse(index.checkMinimal(new int[] { 3, 2, 1, 7 }));
+		assertFalse(index.checkMinimal(new int[] { 4 }));
+		assertFalse(index.checkMinimal(new int[] { 1000, 9, -5 }));
+		assertTrue(index.checkMinimal(new int[] { 1, 2, 1000 }));
+		assertTrue(index.checkMinimal(new int[] { 6, 7, 8, 9 }));
+		assertTrue(index.checkMinimal(new int[0]));
+
+		// removed sets are ignored
+		assertTrue(index.remove(new int[] { 4 }));
+		assertFalse(index.remove(new int[] { 4 }));
+		assertFalse(index.remove(new int[] { 1, 2 }));
+		assertTrue(index.checkMinimal(new int[] { 4 }));
+		assertFalse(index.checkMinimal(new int[] { 1, 2, 3, 4 }));
+	}
+
+	@Test
+	public void testWideVectors() {
+		Random random = new Random(7);
+		ArrayList<int[]> sets = new ArrayList<int[]>();
+		ArrayList<Set<Integer>> reference = new ArrayList<Set<Integer>>();
+		for (int s = 0; s < 300; s++) {
+			Set<Integer> set = new HashSet<Integer>();
+			int size = 1 + random.nextInt(12);
+			while (set.size() < size) {
+				set.add(random.nextInt(3000));
+			}
+			reference.add(set);
+			sets.add(IntUBTree.toSortedArray(set));
+		}
+		WideBitVectorIndex index = new WideBitVectorIndex(sets);
+		assertTrue(index.universe.length > 64 * 3);
+
+		for (int t = 0; t < 500; t++) {
+			Set<Integer> test = new HashSet<Integer>(reference.get(random.nextInt(reference.size())));
+			// remove or add elements
+			if (random.nextBoolean()) {
+				test.remove(test.iterator().next());
+			}
+			for (int i = random.nextInt(2000); i > 0; i--) {
+				test.add(random.nextInt(3500));
+			}
+			boolean minimal = true;
+			for (Set<Integer> set : reference) {
+				if (test.containsAll(set)) {
+					minimal = false;
+				}
+			}
+			assertEquals(minimal, index.checkMinimal(IntUBTree.toSortedArray(test)));
+		}
+	}
+
+	@Test
+	public void testIsSubset() {
+		Random random = new Random(3);
+		for (int words = 0; words < 300; words++) {
+			long[] test = new long[words + 2];
+			long[] set = new long[words + 1];
+			for (int i = 0; i < test.length; i++) {
+				test[i] = random.nextLong();
+			}
+			for (int i = 0; i < words; i++) {
+				set[i + 1] = test[i + 2] & random.nextLong();
+			}
+			assertTrue(WideBitVectorIndex.isSubset(set, 1, test, 2, words));
+			assertTrue(WideBitVectorIndex.isSubsetBlocked(set, 1, test, 2, words));
+			if (words > 0) {
+				int i = random.nextInt(words);
+				set[i + 1] |= ~test[i + 2] & -~test[i + 2];
+				assertEquals(~test[i + 2] == 0, WideBitVectorIndex.isSubset(set, 1, test, 2, words));
+				assertEquals(~test[i + 2] == 0, WideBitVectorIndex.isSubsetBlocked(set, 1, test, 2, words));
+			}
+		}
+	}
+
+}
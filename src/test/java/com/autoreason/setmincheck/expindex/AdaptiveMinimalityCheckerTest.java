@@ -0,0 +1,161 @@
+package com.autoreason.setmincheck.expindex;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.autoreason.setmincheck.CollectionStatistics;
+
+public class AdaptiveMinimalityCheckerTest {
+
+	/**
+	 * Create a collection of random sets
+	 */
+	private static Collection<Set<Integer>> randomSets(Random random, int count, int size, int range) {
+		Collection<Set<Integer>> col = new ArrayList<Set<Integer>>();
+		for (int s = 0; s < count; s++) {
+			Set<Integer> set = new HashSet<Integer>();
+			while (set.size() < size) {
+				set.add(random.nextInt(range));
+			}
+			col.add(set);
+		}
+		return col;
+	}
+
+	/**
+	 * Create a cost model in which the latency of SIMPLE grows with the number of
+	 * sets and that of INT_UBTREE with the mean set size
+	 */
+	private static CostModel testModel() {
+		EnumMap<ExpIndexType, double[]> coefficients = new EnumMap<ExpIndexType, double[]>(ExpIndexType.class);
+		coefficients.put(ExpIndexType.SIMPLE, new double[] { 0, 1, 0, 0, 0 });
+		coefficients.put(ExpIndexType.INT_UBTREE, new double[] { 0, 0, 2, 0, 0 });
+		return new CostModel(coefficients);
+	}
+
+	@Test
+	public void testChooseType() {
+		Random random = new Random(3);
+		CostModel model = testModel();
+		// many small sets
+		Collection<Set<Integer>> small = randomSets(random, 200, 3, 50);
+		assertEquals(ExpIndexType.INT_UBTREE, new AdaptiveMinimalityChecker(small, 1, model).getType());
+		// few large sets
+		Collection<Set<Integer>> large = randomSets(random, 10, 40, 100);
+		assertEquals(ExpIndexType.SIMPLE, new AdaptiveMinimalityChecker(large, 1, model).getType());
+		// empty collection
+		assertEquals(ExpIndexType.SIMPLE,
+				new AdaptiveMinimalityChecker(new ArrayList<Set<Integer>>(), 1, model).getType());
+		// empty model
+		assertEquals(ExpIndexType.SIMPLE, new AdaptiveMinimalityChecker(small, 1,
+				new CostModel(new EnumMap<ExpIndexType, double[]>(ExpIndexType.class))).getType());
+	}
+
+	@Test
+	public void testFit() {
+		Random random = new Random(7);
+		double[] expected = { 1.5, 0.8, 1.2, -0.5, 0.3 };
+		List<CollectionStatistics> stats = new ArrayList<CollectionStatistics>();
+		double[] latencies = new double[20];
+		for (int s = 0; s < latencies.length; s++) {
+			int range = 20 + random.nextInt(200);
+			stats.add(new CollectionStatistics(
+					randomSets(random, 5 + random.nextInt(100), 1 + random.nextInt(15), range)));
+			double[] x = CostModel.features(stats.get(s));
+			double log = 0;
+			for (int i = 0; i < x.length; i++) {
+				log += expected[i] * x[i];
+			}
+			latencies[s] = Math.exp(log);
+		}
+		// exact latencies are reproduced
+		double[] fitted = CostModel.fit(stats, latencies);
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], fitted[i], 1e-3);
+		}
+	}
+
+	@Test
+	public void testReadWrite() throws IOException {
+		CostModel model = testModel();
+		StringWriter out = new StringWriter();
+		try (BufferedWriter writer = new BufferedWriter(out)) {
+			model.write(writer);
+		}
+		CostModel read = CostModel.read(new BufferedReader(new StringReader(out.toString())));
+		assertEquals(model.getTypes(), read.getTypes());
+		CollectionStatistics stats = new CollectionStatistics(randomSets(new Random(1), 30, 4, 20));
+		for (ExpIndexType type : model.getTypes()) {
+			assertEquals(model.estimateLatency(type, stats), read.estimateLatency(type, stats), 1e-9);
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testReadInvalid() throws IOException {
+		CostModel.read(new BufferedReader(new StringReader(CostModel.HEADER + "\nUNKNOWN,1,2,3,4,5\n")));
+	}
+
+	@Test
+	public void testRemoveDuplicate() {
+		Collection<Set<Integer>> col = new ArrayList<Set<Integer>>();
+		col.add(new HashSet<Integer>(Arrays.asList(1, 2)));
+		col.add(new HashSet<Integer>(Arrays.asList(1, 2)));
+		col.add(new HashSet<Integer>(Arrays.asList(3)));
+		AdaptiveMinimalityChecker checker = new AdaptiveMinimalityChecker(col, 1, testModel());
+		Set<Integer> query = new HashSet<Integer>(Arrays.asList(1, 2, 5));
+		// index keeps set while a duplicate of it remains
+		checker.remove(new HashSet<Integer>(Arrays.asList(1, 2)));
+		assertFalse(checker.checkMinimal(query));
+		checker.remove(new HashSet<Integer>(Arrays.asList(1, 2)));
+		assertTrue(checker.checkMinimal(query));
+	}
+
+	@Test
+	public void testGrowingCollection() {
+		Random random = new Random(5);
+		Collection<Set<Integer>> col = new ArrayList<Set<Integer>>();
+		AdaptiveMinimalityChecker checker = new AdaptiveMinimalityChecker(col, 1, testModel());
+		Collection<Set<Integer>> queries = randomSets(random, 200, 6, 30);
+		for (Set<Integer> set : randomSets(random, 300, 3, 30)) {
+			col.add(set);
+			checker.add(set);
+			// statistics are computed again after doubling
+			int indexed = checker.getStatistics().getSetCount();
+			assertTrue(indexed * 2 > col.size() && indexed <= col.size());
+			for (Set<Integer> query : queries) {
+				if (random.nextInt(10) == 0) {
+					assertEquals(ExpSimple.simpleMinimalityCheck(col, query), checker.checkMinimal(query));
+				}
+			}
+		}
+		assertEquals(300, col.size());
+
+		// remove indexed and added sets
+		ArrayList<Set<Integer>> sets = new ArrayList<Set<Integer>>(col);
+		for (int i = sets.size() - 1; i >= 0; i -= 2) {
+			col.remove(sets.get(i));
+			checker.remove(sets.get(i));
+			for (Set<Integer> query : queries) {
+				assertEquals(ExpSimple.simpleMinimalityCheck(col, query), checker.checkMinimal(query));
+			}
+		}
+	}
+
+}